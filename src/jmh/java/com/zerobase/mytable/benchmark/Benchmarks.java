@@ -0,0 +1,45 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.type.Address;
+import com.zerobase.mytable.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+// 벤치마크 공용 테스트 데이터
+final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    static Store store(Long id) {
+        Store store = Store.builder()
+                .id(id)
+                .storename("포장마차" + id)
+                .phone("02-111-1111")
+                .address(Address.builder()
+                        .sido("경기도")
+                        .sigungu("군포시")
+                        .roadname("번영로")
+                        .detailAddress("행복한 곳")
+                        .build())
+                .description("맛있는 가게")
+                .build();
+        store.setCreatedAt(LocalDateTime.now().minusDays(id));
+        return store;
+    }
+
+    static Reservation reservation(Long id, Store store, ReservationStatus status) {
+        return Reservation.builder()
+                .id(id)
+                .uid("reservation" + id)
+                .dateTime(LocalDateTime.now().plusDays(id % 30).withNano(0))
+                .underName("원빈")
+                .phone("010-1111-2222")
+                .specialInstruction("창가 자리")
+                .status(status)
+                .store(store)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.dto.StoreDto;
+import com.zerobase.mytable.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+
+// 엔티티 -> DTO 변환 비용 측정
+@State(Scope.Benchmark)
+public class DtoConversionBenchmark {
+
+    private Store store;
+    private Reservation reservation;
+
+    @Setup
+    public void setUp() {
+        store = Benchmarks.store(1L);
+        reservation = Benchmarks.reservation(1L, store, ReservationStatus.CONFIRM);
+    }
+
+    @Benchmark
+    public ReservationDto reservationDtoFrom() {
+        return ReservationDto.from(reservation);
+    }
+
+    @Benchmark
+    public StoreDto storeDtoFrom() {
+        return StoreDto.from(store);
+    }
+}
@@ -0,0 +1,126 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.domain.*;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.domain.restaurant.RestaurantReservation;
+import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.ReservationUid;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQL57Dialect;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 예약 대량 저장 시 id 생성 방식 비교(Hibernate 세션, H2 인메모리 DB, 초당 저장 행 수)
+// 운영과 같은 MySQL dialect를 사용하므로 시퀀스 대신 reservation_seq 테이블 기반 pooled 생성기로 동작
+// identity : 기존 IDENTITY 방식(benchmark/identity-orm.xml로 재정의, insert 배치 불가)
+// pooled : 엔티티에 선언된 pooled 시퀀스(allocationSize 50) + hibernate.jdbc.batch_size 50
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(InsertBatchingBenchmark.ROWS)
+public class InsertBatchingBenchmark {
+
+    static final int ROWS = 1000;
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Customer.class, Partner.class, Store.class, Restaurant.class,
+            Reservation.class, RestaurantReservation.class, Review.class,
+            StoreReviewSummary.class, MessageOutbox.class, SchedulerLock.class);
+
+    @Param({"identity", "pooled"})
+    private String idGeneration;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private Store store;
+    private Customer customer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.properties의 JDBC 배치 설정과 동일
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:insertBatching"
+                        + idGeneration + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.PASS, "")
+                .applySetting(AvailableSettings.DIALECT, MySQL57Dialect.class.getName())
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .applySetting(AvailableSettings.ORDER_INSERTS, "true")
+                .applySetting(AvailableSettings.ORDER_UPDATES, "true")
+                .applySetting(AvailableSettings.BATCH_VERSIONED_DATA, "true")
+                .build();
+
+        MetadataSources sources = new MetadataSources(registry);
+        ENTITIES.forEach(sources::addAnnotatedClass);
+        if ("identity".equals(idGeneration)) {
+            sources.addResource("benchmark/identity-orm.xml");
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            store = Store.builder().storename("포장마차").build();
+            customer = Customer.builder()
+                    .uid("customer")
+                    .email("customer@mytable.com")
+                    .name("원빈")
+                    .password("password")
+                    .phone("010-1111-2222")
+                    .birth(LocalDate.of(1990, 1, 1))
+                    .build();
+            session.persist(store);
+            session.persist(customer);
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteReservations() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createQuery("delete from Reservation").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Long insertReservations() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            Store storeReference = session.getReference(Store.class, store.getId());
+            Customer customerReference = session.getReference(Customer.class, customer.getId());
+
+            Reservation last = null;
+            for (int i = 0; i < ROWS; i++) {
+                last = Reservation.builder()
+                        .uid(ReservationUid.generate())
+                        .customer(customerReference)
+                        .store(storeReference)
+                        .dateTime(LocalDateTime.now().plusDays(i % 30).withNano(0))
+                        .underName("원빈")
+                        .phone("010-1111-2222")
+                        .status(ReservationStatus.WAITING)
+                        .build();
+                session.persist(last);
+            }
+            session.getTransaction().commit();
+            return last.getId();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.zerobase.mytable.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 예약 목록 응답(Page<ReservationDto>) JSON 직렬화 비용 측정
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<ReservationDto> page;
+
+    @Setup
+    public void setUp() {
+        // 스프링 MVC와 같은 설정(JavaTimeModule 등)의 ObjectMapper 사용
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Store store = Benchmarks.store(1L);
+        List<ReservationDto> reservationDtos = new ArrayList<>();
+        for (long i = 1; i <= pageSize; i++) {
+            reservationDtos.add(ReservationDto.from(
+                    Benchmarks.reservation(i, store, ReservationStatus.CONFIRM)));
+        }
+        page = new PageImpl<>(reservationDtos, PageRequest.of(0, pageSize), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
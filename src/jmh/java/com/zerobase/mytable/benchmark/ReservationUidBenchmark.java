@@ -0,0 +1,129 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.type.ReservationUid;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 예약 uid 저장 방식 비교(H2 인메모리 DB)
+// randomHex : UUIDv4 32자리 hex 문자열을 VARCHAR unique 인덱스로 저장하는 기존 방식
+// timeOrderedBinary : UUIDv7을 BINARY(16) unique 인덱스로 저장하는 방식
+@State(Scope.Benchmark)
+public class ReservationUidBenchmark {
+
+    private static final int LOOKUP_SAMPLES = 1024;
+
+    // 미리 저장해 둔 예약 건수
+    @Param({"10000", "100000"})
+    private int reservationCount;
+
+    private Connection connection;
+    private PreparedStatement insertHex;
+    private PreparedStatement insertBinary;
+    private PreparedStatement selectHex;
+    private PreparedStatement selectBinary;
+
+    private final List<String> hexUids = new ArrayList<>();
+    private final List<String> binaryUids = new ArrayList<>();
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:reservation-uid" + reservationCount + ";DB_CLOSE_DELAY=-1");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table reservation_hex (id bigint primary key, " +
+                    "uid varchar(32), constraint uk_reservation_hex_uid unique (uid))");
+            statement.execute("create table reservation_binary (id bigint primary key, " +
+                    "uid binary(16), constraint uk_reservation_binary_uid unique (uid))");
+        }
+
+        insertHex = connection.prepareStatement(
+                "insert into reservation_hex values (?, ?)");
+        insertBinary = connection.prepareStatement(
+                "insert into reservation_binary values (?, ?)");
+        selectHex = connection.prepareStatement(
+                "select id from reservation_hex where uid = ?");
+        selectBinary = connection.prepareStatement(
+                "select id from reservation_binary where uid = ?");
+
+        for (nextId = 1; nextId <= reservationCount; nextId++) {
+            String hexUid = randomHex();
+            String binaryUid = ReservationUid.generate();
+            addHex(nextId, hexUid);
+            addBinary(nextId, binaryUid);
+            if (nextId % (reservationCount / LOOKUP_SAMPLES) == 0) {
+                hexUids.add(hexUid);
+                binaryUids.add(binaryUid);
+            }
+        }
+        insertHex.executeBatch();
+        insertBinary.executeBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int insertRandomHex() throws SQLException {
+        insertHex.setLong(1, nextId++);
+        insertHex.setString(2, randomHex());
+        return insertHex.executeUpdate();
+    }
+
+    @Benchmark
+    public int insertTimeOrderedBinary() throws SQLException {
+        insertBinary.setLong(1, nextId++);
+        insertBinary.setBytes(2, ReservationUid.toBytes(ReservationUid.generate()));
+        return insertBinary.executeUpdate();
+    }
+
+    @Benchmark
+    public long lookupRandomHex() throws SQLException {
+        selectHex.setString(1, sample(hexUids));
+        return lookup(selectHex);
+    }
+
+    @Benchmark
+    public long lookupTimeOrderedBinary() throws SQLException {
+        // 외부 문자열 uid를 변환해 조회하는 비용까지 포함
+        selectBinary.setBytes(1, ReservationUid.toBytes(sample(binaryUids)));
+        return lookup(selectBinary);
+    }
+
+    private void addHex(long id, String uid) throws SQLException {
+        insertHex.setLong(1, id);
+        insertHex.setString(2, uid);
+        insertHex.addBatch();
+    }
+
+    private void addBinary(long id, String uid) throws SQLException {
+        insertBinary.setLong(1, id);
+        insertBinary.setBytes(2, ReservationUid.toBytes(uid));
+        insertBinary.addBatch();
+    }
+
+    private static long lookup(PreparedStatement select) throws SQLException {
+        try (ResultSet resultSet = select.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1;
+        }
+    }
+
+    private static String sample(List<String> uids) {
+        return uids.get(ThreadLocalRandom.current().nextInt(uids.size()));
+    }
+
+    private static String randomHex() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
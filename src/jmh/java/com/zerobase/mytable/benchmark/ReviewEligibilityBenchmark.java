@@ -0,0 +1,122 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.type.ReservationStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+
+// 리뷰 작성 자격 확인 방식 비교(H2 인메모리 DB)
+// loadAndFilter : 고객의 예약 전체를 점포와 함께 읽어 메모리에서 찾는 기존 방식
+// existsQuery : (customer_id, store_id, status) 인덱스로 한 건만 확인하는 방식
+@State(Scope.Benchmark)
+public class ReviewEligibilityBenchmark {
+
+    private static final long CUSTOMER_ID = 1L;
+    private static final long TARGET_STORE_ID = 1L;
+    private static final int STORE_COUNT = 100;
+    private static final int OTHER_CUSTOMER_RESERVATIONS = 10000;
+
+    // 고객의 예약 이력 건수
+    @Param({"10", "100", "1000"})
+    private int reservationCount;
+
+    private Connection connection;
+    private PreparedStatement loadReservations;
+    private PreparedStatement existsReservation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:eligibility" + reservationCount + ";DB_CLOSE_DELAY=-1");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table store (id bigint primary key, " +
+                    "storename varchar(255), description varchar(255))");
+            statement.execute("create table reservation (id bigint primary key, " +
+                    "customer_id bigint, store_id bigint, status int, date_time timestamp)");
+            statement.execute("create index idx_reservation_customer_store_status " +
+                    "on reservation (customer_id, store_id, status)");
+        }
+
+        try (PreparedStatement insertStore = connection.prepareStatement(
+                "insert into store values (?, ?, ?)")) {
+            for (long id = 1; id <= STORE_COUNT; id++) {
+                insertStore.setLong(1, id);
+                insertStore.setString(2, "포장마차" + id);
+                insertStore.setString(3, "맛있는 가게");
+                insertStore.addBatch();
+            }
+            insertStore.executeBatch();
+        }
+
+        // 대상 점포의 방문 완료 예약은 고객 이력의 마지막에 위치(기존 방식의 최악 경우)
+        try (PreparedStatement insertReservation = connection.prepareStatement(
+                "insert into reservation values (?, ?, ?, ?, current_timestamp)")) {
+            long id = 1;
+            for (int i = 0; i < OTHER_CUSTOMER_RESERVATIONS; i++, id++) {
+                addReservation(insertReservation, id, 2 + i % 500,
+                        1 + i % STORE_COUNT, ReservationStatus.ARRIVED);
+            }
+            for (int i = 1; i < reservationCount; i++, id++) {
+                addReservation(insertReservation, id, CUSTOMER_ID,
+                        2 + i % (STORE_COUNT - 1), ReservationStatus.ARRIVED);
+            }
+            addReservation(insertReservation, id, CUSTOMER_ID,
+                    TARGET_STORE_ID, ReservationStatus.ARRIVED);
+            insertReservation.executeBatch();
+        }
+
+        loadReservations = connection.prepareStatement(
+                "select r.id, r.store_id, r.status, r.date_time, s.id, s.storename, " +
+                        "s.description from reservation r " +
+                        "join store s on s.id = r.store_id where r.customer_id = ?");
+        existsReservation = connection.prepareStatement(
+                "select r.id from reservation r where r.customer_id = ? " +
+                        "and r.store_id = ? and r.status = ? limit 1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean loadAndFilter() throws SQLException {
+        loadReservations.setLong(1, CUSTOMER_ID);
+
+        boolean eligible = false;
+        try (ResultSet resultSet = loadReservations.executeQuery()) {
+            while (resultSet.next()) {
+                if (resultSet.getLong(2) == TARGET_STORE_ID
+                        && resultSet.getInt(3) == ReservationStatus.ARRIVED.ordinal()) {
+                    eligible = true;
+                }
+            }
+        }
+        return eligible;
+    }
+
+    @Benchmark
+    public boolean existsQuery() throws SQLException {
+        existsReservation.setLong(1, CUSTOMER_ID);
+        existsReservation.setLong(2, TARGET_STORE_ID);
+        existsReservation.setInt(3, ReservationStatus.ARRIVED.ordinal());
+
+        try (ResultSet resultSet = existsReservation.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private static void addReservation(PreparedStatement insertReservation, long id,
+                                       long customerId, long storeId,
+                                       ReservationStatus status) throws SQLException {
+        insertReservation.setLong(1, id);
+        insertReservation.setLong(2, customerId);
+        insertReservation.setLong(3, storeId);
+        insertReservation.setInt(4, status.ordinal());
+        insertReservation.addBatch();
+    }
+}
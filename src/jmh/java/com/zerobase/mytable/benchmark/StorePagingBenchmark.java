@@ -0,0 +1,54 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.domain.Partner;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.StoreDto;
+import com.zerobase.mytable.repository.PartnerRepository;
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.service.StoreService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+// StoreService.getMyStores의 메모리 정렬 후 subList 페이징 비용 측정(점포 수에 비례)
+@State(Scope.Benchmark)
+public class StorePagingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int storeCount;
+
+    private StoreService storeService;
+    private JwtPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        List<Store> stores = new ArrayList<>();
+        for (long i = 1; i <= storeCount; i++) {
+            stores.add(Benchmarks.store(i));
+        }
+        Partner partner = Partner.builder().uid("partner").stores(stores).build();
+
+        // getByUid만 사용하므로 DB 없이 파트너를 반환하는 저장소로 대체
+        PartnerRepository partnerRepository = (PartnerRepository) Proxy.newProxyInstance(
+                PartnerRepository.class.getClassLoader(),
+                new Class<?>[]{PartnerRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getByUid")) {
+                        return partner;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        storeService = new StoreService(null, partnerRepository, null, null, null, null, null);
+        principal = new JwtPrincipal("partner", List.of("ROLE_PARTNER"));
+    }
+
+    @Benchmark
+    public Page<StoreDto> getMyStores() {
+        return storeService.getMyStores(principal, PageRequest.of(1, 10));
+    }
+}
@@ -0,0 +1,41 @@
+package com.zerobase.mytable.benchmark;
+
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.security.TokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// 요청마다 실행되는 토큰 생성, 파싱 비용 측정
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 회원 정보 조회는 측정 대상이 아니므로 의존성 없이 생성
+        tokenProvider = new TokenProvider(null, null, null);
+
+        Field secretKey = TokenProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(tokenProvider, Base64.getEncoder().encodeToString(
+                "mytable-benchmark-secret-key".getBytes(StandardCharsets.UTF_8)));
+
+        token = tokenProvider.createToken("uid", List.of("ROLE_CUSTOMER"));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken("uid", List.of("ROLE_CUSTOMER"));
+    }
+
+    @Benchmark
+    public JwtPrincipal parseToken() {
+        return tokenProvider.parseToken(token);
+    }
+}
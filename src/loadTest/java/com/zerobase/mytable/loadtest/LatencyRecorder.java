@@ -0,0 +1,82 @@
+package com.zerobase.mytable.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트 별 응답 시간, 실패 건수 기록
+// start ~ stop 사이의 요청만 기록하고 측정 구간 기준으로 초당 요청 수 계산
+class LatencyRecorder {
+
+    private final Map<String, Queue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+    private long startedAt;
+    private long stoppedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long elapsedNanos) {
+        if (recording) {
+            latencies.computeIfAbsent(endpoint, k -> new ConcurrentLinkedQueue<>())
+                    .add(elapsedNanos);
+        }
+    }
+
+    void error(String endpoint) {
+        if (recording) {
+            errors.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+        }
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    void print(PrintStream out) {
+        double seconds = (stoppedAt - startedAt) / 1_000_000_000.0;
+
+        out.printf("%n측정 시간 : %.1fs%n", seconds);
+        out.printf("%-28s %8s %8s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "rps");
+
+        Map<String, Queue<Long>> sorted = new TreeMap<>(latencies);
+        errors.keySet().forEach(endpoint -> sorted.putIfAbsent(endpoint, new ConcurrentLinkedQueue<>()));
+
+        for (Map.Entry<String, Queue<Long>> entry : sorted.entrySet()) {
+            long[] values = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(values);
+            LongAdder errorCount = errors.get(entry.getKey());
+
+            out.printf("%-28s %8d %8d %10.2f %10.2f %10.1f%n",
+                    entry.getKey(),
+                    values.length,
+                    errorCount == null ? 0 : errorCount.sum(),
+                    percentile(values, 0.50),
+                    percentile(values, 0.99),
+                    values.length / seconds);
+        }
+    }
+
+    private static double percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, index)] / 1_000_000.0;
+    }
+}
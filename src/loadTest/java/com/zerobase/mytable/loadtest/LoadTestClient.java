@@ -0,0 +1,77 @@
+package com.zerobase.mytable.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+// 부하 측정 대상 서버 호출(요청 별 응답 시간을 LatencyRecorder에 기록)
+class LoadTestClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+
+    LoadTestClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    // endpoint 이름이 null이면 준비 단계 요청으로 보고 기록하지 않음
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("X-AUTH-TOKEN", token);
+        }
+
+        try {
+            builder.POST(body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        return send(endpoint, builder.build());
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request,
+                    HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - start;
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(request.uri().getPath() + " : "
+                        + response.statusCode() + " " + response.body());
+            }
+            if (endpoint != null) {
+                recorder.record(endpoint, elapsed);
+            }
+            return response.body().isEmpty()
+                    ? objectMapper.nullNode()
+                    : objectMapper.readTree(response.body());
+        } catch (IOException | RuntimeException e) {
+            if (endpoint != null) {
+                recorder.error(endpoint);
+            }
+            throw e instanceof RuntimeException
+                    ? (RuntimeException) e : new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
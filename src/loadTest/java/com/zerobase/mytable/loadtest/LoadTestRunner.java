@@ -0,0 +1,181 @@
+package com.zerobase.mytable.loadtest;
+
+import com.zerobase.mytable.MytableApplication;
+import com.zerobase.mytable.type.ReservationUid;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 예약 요청 -> 예약 승인 -> 도착 확인 흐름 부하 측정
+// 내장 H2 DB와 문자 발송 스텁(sms-stub 프로필)으로 애플리케이션을 띄운 뒤
+// 고객(가상 사용자) 별로 흐름을 반복하고 엔드포인트 별 p50/p99 응답 시간과 초당 요청 수 출력
+//
+// 설정(-D 시스템 프로퍼티)
+// loadtest.concurrency : 동시에 흐름을 반복하는 고객 수(기본 16)
+// loadtest.iterations : 고객 별 측정 반복 횟수(기본 50)
+// loadtest.warmup-iterations : 고객 별 측정 전 반복 횟수(기본 5)
+// loadtest.stores : 점포(파트너) 수(기본 4)
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "Loadtest1!";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final int iterations = Integer.getInteger("loadtest.iterations", 50);
+    private final int warmupIterations = Integer.getInteger("loadtest.warmup-iterations", 5);
+    private final int stores = Integer.getInteger("loadtest.stores", 4);
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final LoadTestClient client;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final List<String> partnerTokens = new ArrayList<>();
+    private final List<String> customerTokens = new ArrayList<>();
+
+    LoadTestRunner(String baseUrl, JdbcTemplate jdbcTemplate) {
+        this.client = new LoadTestClient(baseUrl, recorder);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MytableApplication.class)
+                .profiles("sms-stub", "load-test")
+                .run(args);
+
+        long errors;
+        try {
+            String baseUrl = "http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port");
+            LoadTestRunner runner = new LoadTestRunner(baseUrl,
+                    context.getBean(JdbcTemplate.class));
+
+            runner.prepare();
+            runner.run();
+            errors = runner.recorder.totalErrors();
+        } finally {
+            context.close();
+        }
+
+        System.exit(errors == 0 ? 0 : 1);
+    }
+
+    // 파트너, 점포, 고객 생성 후 토큰 발급(측정하지 않음)
+    private void prepare() {
+        for (int i = 0; i < stores; i++) {
+            String email = "partner" + i + "@loadtest.com";
+            signUp("/sign-up/partner", email);
+            String token = signIn("/sign-in/partner", email);
+
+            client.post(null, "/store/register", token, Map.of(
+                    "storename", storename(i),
+                    "phone", "02-111-1111",
+                    "sido", "서울특별시",
+                    "sigungu", "마포구",
+                    "roadname", "월드컵로",
+                    "detailAddress", "부하 측정 " + i,
+                    "description", "부하 측정용 점포"));
+            partnerTokens.add(token);
+        }
+
+        for (int i = 0; i < concurrency; i++) {
+            String email = customerEmail(i);
+            signUp("/sign-up/customer", email);
+            customerTokens.add(signIn("/sign-in/customer", email));
+        }
+    }
+
+    private void run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            executor.invokeAll(tasks(warmupIterations));
+
+            recorder.start();
+            executor.invokeAll(tasks(iterations));
+            recorder.stop();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        System.out.printf("%nconcurrency=%d, iterations=%d, stores=%d%n",
+                concurrency, iterations, stores);
+        recorder.print(System.out);
+    }
+
+    private List<Callable<Void>> tasks(int count) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            int customer = i;
+            tasks.add(() -> {
+                for (int n = 0; n < count; n++) {
+                    try {
+                        reservationFlow(customer);
+                    } catch (RuntimeException e) {
+                        // 실패 건수는 LatencyRecorder에 기록되고 다음 반복 계속 진행
+                    }
+                }
+                return null;
+            });
+        }
+        return tasks;
+    }
+
+    // 도착 확인이 가능하도록 예약 시간은 현재 시간 직후로 요청
+    private void reservationFlow(int customer) {
+        int store = customer % stores;
+        LocalDateTime dateTime = LocalDateTime.now().plusMinutes(5).withNano(0);
+
+        client.post("customer.request", "/customer/reservation/request",
+                customerTokens.get(customer), Map.of(
+                        "date", dateTime.toLocalDate().toString(),
+                        "time", dateTime.toLocalTime().format(TIME_FORMAT),
+                        "underName", "홍길동",
+                        "phone", "010-1234-5678",
+                        "storename", storename(store)));
+
+        // 예약 요청 응답에는 예약 uid가 없으므로 고객의 마지막 예약을 DB에서 조회(측정하지 않음)
+        String reservationUid = ReservationUid.toHex(jdbcTemplate.queryForObject(
+                "select r.uid from reservation r join customer c on c.id = r.customer_id " +
+                        "where c.email = ? order by r.id desc limit 1",
+                byte[].class, customerEmail(customer)));
+
+        String partnerToken = partnerTokens.get(store);
+        client.post("partner.confirm",
+                "/partner/reservation/detail/confirm?reservationUid=" + reservationUid,
+                partnerToken, null);
+        client.post("partner.arrival-check",
+                "/partner/reservation/detail/arrival-check?reservationUid=" + reservationUid,
+                partnerToken, null);
+    }
+
+    private void signUp(String path, String email) {
+        client.post(null, path, null, Map.of(
+                "email", email,
+                "name", "부하측정",
+                "password", PASSWORD,
+                "phone", "010-1234-5678",
+                "birth", "1990-01-01"));
+    }
+
+    private String signIn(String path, String email) {
+        return client.post(null, path, null, Map.of(
+                "email", email,
+                "password", PASSWORD)).get("token").asText();
+    }
+
+    private static String storename(int store) {
+        return "loadtest-store-" + store;
+    }
+
+    private static String customerEmail(int customer) {
+        return "customer" + customer + "@loadtest.com";
+    }
+}
@@ -0,0 +1,84 @@
+package com.zerobase.mytable.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 복제 DB 지연 확인(SHOW SLAVE STATUS의 Seconds_Behind_Master)
+// 지연이 허용 범위를 넘거나, 복제가 멈췄거나, 연결할 수 없으면 사용 불가로 표시하여 원본 DB로 처리
+// 첫 확인 전까지는 사용 불가 상태로 시작
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds,
+                             MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this,
+                        monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms}")
+    public void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                update(Double.NaN, "replication is not configured");
+                return;
+            }
+
+            long lag = resultSet.getLong("Seconds_Behind_Master");
+            if (resultSet.wasNull()) {
+                update(Double.NaN, "replication is stopped");
+                return;
+            }
+
+            update(lag, lag > maxLagSeconds ? "lag " + lag + "s exceeds "
+                    + maxLagSeconds + "s" : null);
+        } catch (SQLException e) {
+            update(Double.NaN, e.getMessage());
+        }
+    }
+
+    // 복제 DB 연결 실패 시 다음 확인까지 사용 불가로 표시
+    public void markUnavailable(SQLException e) {
+        update(Double.NaN, e.getMessage());
+    }
+
+    // reason이 null이면 사용 가능
+    private void update(double lag, String reason) {
+        lagSeconds = lag;
+        boolean nowAvailable = reason == null;
+        if (available != nowAvailable) {
+            if (nowAvailable) {
+                log.info("Replica is available again, routing read-only transactions to replica.");
+            } else {
+                log.warn("Replica is unavailable ({}), routing read-only transactions to primary.",
+                        reason);
+            }
+        }
+        available = nowAvailable;
+    }
+}
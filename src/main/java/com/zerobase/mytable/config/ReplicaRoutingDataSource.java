@@ -0,0 +1,71 @@
+package com.zerobase.mytable.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제 DB, 그 외는 원본 DB로 연결
+// 복제 DB가 지연되었거나 연결에 실패하면 원본 DB로 대체
+// 트랜잭션 속성이 정해진 후 연결을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+// OSIV를 사용하지 않으므로(spring.jpa.open-in-view=false) 요청이 아닌 트랜잭션 단위로 연결 대상이 정해짐
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter replicaConnections;
+    private final Counter fallbackConnections;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.replicaConnections = meterRegistry.counter(
+                "datasource.routing", "target", "replica");
+        this.fallbackConnections = meterRegistry.counter(
+                "datasource.routing", "target", "primary-fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionFactory factory) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return factory.connect(primary);
+        }
+        if (!lagMonitor.isAvailable()) {
+            fallbackConnections.increment();
+            return factory.connect(primary);
+        }
+
+        try {
+            Connection connection = factory.connect(replica);
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            fallbackConnections.increment();
+            return factory.connect(primary);
+        }
+    }
+
+    // 대상 DB에서 연결을 얻는 방법(기본 계정 또는 지정 계정)
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
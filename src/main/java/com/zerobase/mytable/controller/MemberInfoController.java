@@ -1,11 +1,14 @@
 package com.zerobase.mytable.controller;
 
 import com.zerobase.mytable.dto.MemberInfoDto;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.service.MemberInfoService;
 import com.zerobase.mytable.type.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
 
@@ -19,51 +22,51 @@ public class MemberInfoController {
     @GetMapping("/partner/info")
     @PreAuthorize("hasRole('PARTNER')")
     public MemberInfoDto getPartnerInfo(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token) {
-        return memberInfoService.getPartnerInfo(token);
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal) {
+        return memberInfoService.getPartnerInfo(principal);
     }
 
     // 고객 회원 정보 조회
     @GetMapping("/customer/info")
     @PreAuthorize("hasRole('CUSTOMER')")
     public MemberInfoDto getCustomerInfo(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token) {
-        return memberInfoService.getCustomerInfo(token);
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal) {
+        return memberInfoService.getCustomerInfo(principal);
     }
 
     // 파트너 회원 정보 수정
     @PutMapping("/partner/info")
     @PreAuthorize("hasRole('PARTNER')")
     public MemberInfoDto updatePartnerInfo(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody MemberInfoDto request) {
-        return memberInfoService.updatePartnerInfo(token, request);
+        return memberInfoService.updatePartnerInfo(principal, request);
     }
 
     // 고객 회원 정보 수정
     @PutMapping("/customer/info")
     @PreAuthorize("hasRole('CUSTOMER')")
     public MemberInfoDto updateCustomerInfo(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody MemberInfoDto request) {
-        return memberInfoService.updateCustomerInfo(token, request);
+        return memberInfoService.updateCustomerInfo(principal, request);
     }
 
     // 파트너 회원 정보 삭제
     @DeleteMapping("/partner/info")
     @PreAuthorize("hasRole('PARTNER')")
     public CommonResponse deletePartnerInfo(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody String password) {
-        return memberInfoService.deletePartnerInfo(token, password);
+        return memberInfoService.deletePartnerInfo(principal, password);
     }
 
     // 고객 회원 정보 삭제
     @DeleteMapping("/customer/info")
     @PreAuthorize("hasRole('CUSTOMER')")
     public CommonResponse deleteCustomerInfo(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody String password) {
-        return memberInfoService.deleteCustomerInfo(token, password);
+        return memberInfoService.deleteCustomerInfo(principal, password);
     }
 }
@@ -1,15 +1,25 @@
 package com.zerobase.mytable.controller;
 
+import com.zerobase.mytable.dto.ContentVersion;
 import com.zerobase.mytable.dto.ReviewDto;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.service.ReviewService;
 import com.zerobase.mytable.type.CommonResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,21 +28,35 @@ public class ReviewController {
 
     private final ReviewService reviewService;
 
+    @Value("${http.cache-control.max-age-seconds}")
+    private long maxAgeSeconds;
+
     // 고객 리뷰 작성
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
     public ReviewDto customerCreateReview(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody ReviewDto request) {
-        return reviewService.customerCreateReview(token, request);
+        return reviewService.customerCreateReview(principal, request);
     }
 
     // 점포 별 리뷰 리스트 조회
+    // 리뷰 작성, 수정, 삭제가 없었으면 응답 본문 없이 304 응답(If-None-Match, If-Modified-Since)
     @GetMapping("/list")
-    public Page<ReviewDto> getReviewsByStore(@RequestParam String storename,
-                                             @RequestParam Integer page,
-                                             @RequestParam Integer size) {
-        return reviewService.getReviewsByStore(storename, PageRequest.of(page, size));
+    public ResponseEntity<Page<ReviewDto>> getReviewsByStore(
+            @RequestParam String storename,
+            @RequestParam Integer page,
+            @RequestParam Integer size,
+            WebRequest webRequest) {
+        ContentVersion version = reviewService.getReviewsByStoreVersion(storename);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl()).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl())
+                .body(reviewService.getReviewsByStore(storename, PageRequest.of(page, size)));
     }
 
     // 리뷰 상세 조회
@@ -45,17 +69,24 @@ public class ReviewController {
     @PutMapping
     @PreAuthorize("hasRole('CUSTOMER')")
     public ReviewDto updateReview(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam Long reviewId,
             @Valid @RequestBody ReviewDto request) {
-        return reviewService.updateReview(token, reviewId, request);
+        return reviewService.updateReview(principal, reviewId, request);
     }
 
     @DeleteMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'PARTNER')")
     public CommonResponse deleteReview(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam Long reviewId) {
-        return reviewService.deleteReview(token, reviewId);
+        return reviewService.deleteReview(principal, reviewId);
+    }
+
+    // 로그인 없이 조회하는 목록이므로 공유 캐시(public) 허용
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+                .cachePublic()
+                .mustRevalidate();
     }
 }
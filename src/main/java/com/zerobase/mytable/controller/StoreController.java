@@ -1,14 +1,31 @@
 package com.zerobase.mytable.controller;
 
+import com.zerobase.mytable.dto.ContentVersion;
 import com.zerobase.mytable.dto.StoreDto;
 import com.zerobase.mytable.dto.StoreRegisterDto;
+import com.zerobase.mytable.dto.restaurant.AvailabilityDto;
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.service.AvailabilityService;
 import com.zerobase.mytable.service.StoreService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,14 +33,18 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final AvailabilityService availabilityService;
+
+    @Value("${http.cache-control.max-age-seconds}")
+    private long maxAgeSeconds;
 
     // 점포 등록
     @PostMapping("/register")
     @PreAuthorize("hasRole('PARTNER')")
     public StoreRegisterDto.Response storeRegister(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody StoreRegisterDto.Request request) {
-        return storeService.register(token, request);
+        return storeService.register(principal, request);
     }
 
     // 점포 검색 시 10개 자동완성
@@ -32,27 +53,57 @@ public class StoreController {
         return storeService.autoComplete(keyword);
     }
 
+    // 날짜, 시간, 인원 조건으로 예약 가능한 식당 조회
+    // ex) /store/availability?dates=2024-01-05&times=18:00,19:00&numberOfPeople=4&page=0&size=10
+    @GetMapping("/availability")
+    public Page<AvailabilityDto> searchAvailability(
+            @RequestParam(required = false) String sido,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> dates,
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") List<LocalTime> times,
+            @RequestParam Integer numberOfPeople,
+            @RequestParam Integer page, @RequestParam Integer size) {
+        return availabilityService.searchAvailability(sido, dates, times,
+                numberOfPeople, PageRequest.of(page, size));
+    }
+
     // 점포 정보 조회
+    // 점포, 리뷰 요약이 바뀌지 않았으면 응답 본문 없이 304 응답(If-None-Match, If-Modified-Since)
     @GetMapping("/info")
-    public StoreDto getStoreInfo(@RequestParam String storename) {
-        return storeService.getStoreInfo(storename);
+    public ResponseEntity<StoreDto> getStoreInfo(@RequestParam String storename,
+                                                 WebRequest webRequest) {
+        ContentVersion version = storeService.getStoreInfoVersion(storename);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl()).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl())
+                .body(storeService.getStoreInfo(storename));
     }
 
     // 점포 정보 수정
     @PutMapping("/info")
     @PreAuthorize("hasRole('PARTNER')")
-    public StoreDto updateStoreInfo(@RequestHeader(name = "X-AUTH-TOKEN") String token,
+    public StoreDto updateStoreInfo(@ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
                                     @RequestParam String existingStorename,
                                     @Valid @RequestBody StoreRegisterDto.Request updateRequest) {
-        return storeService.updateStoreInfo(token, existingStorename, updateRequest);
+        return storeService.updateStoreInfo(principal, existingStorename, updateRequest);
     }
 
     // 점포 삭제
     @DeleteMapping("/info")
     @PreAuthorize("hasRole('PARTNER')")
     public StoreRegisterDto.Response deleteStore(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String storename) {
-        return storeService.deleteStore(token, storename);
+        return storeService.deleteStore(principal, storename);
+    }
+
+    // 공개 정보이므로 CDN 캐시 허용, max-age 이후에는 ETag로 재검증
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+                .cachePublic()
+                .mustRevalidate();
     }
 }
@@ -1,13 +1,18 @@
 package com.zerobase.mytable.controller.reservation;
 
+import com.zerobase.mytable.dto.CursorPageDto;
 import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.dto.restaurant.RestaurantReservationDto;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.service.ReservationService;
 import com.zerobase.mytable.type.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
 
@@ -22,42 +27,60 @@ public class CustomerReservationController {
     // 예약 요청
     @PostMapping("/request")
     public CommonResponse makeReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody ReservationDto request) {
-        return reservationService.makeReservation(token, request);
+        return reservationService.makeReservation(principal, request);
+    }
+
+    // 식당 테이블 예약 요청
+    @PostMapping("/restaurant/request")
+    public CommonResponse makeRestaurantReservation(
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
+            @Valid @RequestBody RestaurantReservationDto request) {
+        return reservationService.makeRestaurantReservation(principal, request);
     }
 
     // 고객이 예약한 목록 조회
-    @GetMapping("/my-list")
+    @GetMapping(value = "/my-list", params = "page")
     public Page<ReservationDto> getMyReservations(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam Integer page, @RequestParam Integer size) {
-        return reservationService.customerGetMyReservations(token,
+        return reservationService.customerGetMyReservations(principal,
                 PageRequest.of(page, size));
     }
 
+    // 고객이 예약한 목록 커서 기반 조회(after 미입력 시 첫 페이지)
+    @GetMapping(value = "/my-list", params = "!page")
+    public CursorPageDto<ReservationDto> getMyReservationsByCursor(
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(required = false) String after,
+            @RequestParam Integer size) {
+        return reservationService.customerGetMyReservationsByCursor(
+                principal, after, size);
+    }
+
     // 예약 상세 정보 조회
     @GetMapping("/detail")
     public ReservationDto getReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid) {
-        return reservationService.customerGetReservation(token, reservationUid);
+        return reservationService.customerGetReservation(principal, reservationUid);
     }
 
     // 예약 정보 수정
     @PutMapping("/detail")
     public ReservationDto updateReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid,
             @Valid @RequestBody ReservationDto request) {
-        return reservationService.updateReservation(token, reservationUid, request);
+        return reservationService.updateReservation(principal, reservationUid, request);
     }
 
     // 예약 취소
     @PostMapping("/detail")
     public ReservationDto cancelReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid) {
-        return reservationService.cancelReservation(token, reservationUid);
+        return reservationService.cancelReservation(principal, reservationUid);
     }
 }
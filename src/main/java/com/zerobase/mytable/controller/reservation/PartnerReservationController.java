@@ -1,7 +1,9 @@
 package com.zerobase.mytable.controller.reservation;
 
+import com.zerobase.mytable.dto.ReservationBulkDto;
 import com.zerobase.mytable.dto.ReservationDto;
 import com.zerobase.mytable.dto.StoreDto;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.service.ReservationService;
 import com.zerobase.mytable.service.StoreService;
 import com.zerobase.mytable.type.CommonResponse;
@@ -9,10 +11,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import springfox.documentation.annotations.ApiIgnore;
 
+import javax.validation.Valid;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,15 +34,15 @@ public class PartnerReservationController {
     // 파트너가 관리하고 있는 점포 목록 조회
     @GetMapping("/my-stores")
     public Page<StoreDto> getMyStores(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam Integer page, @RequestParam Integer size) {
-        return storeService.getMyStores(token, PageRequest.of(page, size));
+        return storeService.getMyStores(principal, PageRequest.of(page, size));
     }
 
     // 파트너가 관리하고 있는 점포의 예약 목록 조회
     @GetMapping("/store/reservations")
     public Page<ReservationDto> getReservationsByStore(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String storename,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
             LocalDate startDate,
@@ -42,51 +50,79 @@ public class PartnerReservationController {
             LocalDate endDate,
             @RequestParam Integer page, @RequestParam Integer size) {
         PageRequest pageRequest = PageRequest.of(page, size);
-        return storeService.getReservationsByStore(token, storename,
+        return storeService.getReservationsByStore(principal, storename,
                 startDate, endDate, pageRequest);
     }
 
+    // 파트너가 관리하고 있는 점포의 실시간 예약 피드(SSE)
+    // 예약 생성, 수정, 취소, 승인, 거절, 도착 확인 시 이벤트 전송
+    @GetMapping(value = "/store/reservations/stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReservationsByStore(
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam String storename) {
+        return storeService.subscribeReservations(principal, storename);
+    }
+
     // 예약 상세정보 조회
     @GetMapping("/reservation/detail")
     public ReservationDto partnerGetReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid) {
-        return reservationService.partnerGetReservation(token, reservationUid);
+        return reservationService.partnerGetReservation(principal, reservationUid);
     }
 
     // 예약 승인
     @PostMapping("/reservation/detail/confirm")
     public ReservationDto confirmReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid) {
-        return reservationService.partnerReservationConfirm(token, reservationUid);
+        return reservationService.partnerReservationConfirm(principal, reservationUid);
     }
 
     // 예약 거절
     @PostMapping("/reservation/detail/reject")
     public ReservationDto rejectReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid) {
-        return reservationService.partnerReservationReject(token, reservationUid);
+        return reservationService.partnerReservationReject(principal, reservationUid);
+    }
+
+    // 대기 중인 예약 일괄 승인
+    @PostMapping("/reservation/bulk/confirm")
+    public List<ReservationDto> bulkConfirmReservations(
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
+            @Valid @RequestBody ReservationBulkDto.Request request) {
+        return reservationService.partnerReservationBulkConfirm(
+                principal, request.getReservationUids());
+    }
+
+    // 대기 중인 예약 일괄 거절
+    @PostMapping("/reservation/bulk/reject")
+    public List<ReservationDto> bulkRejectReservations(
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
+            @Valid @RequestBody ReservationBulkDto.Request request) {
+        return reservationService.partnerReservationBulkReject(
+                principal, request.getReservationUids());
     }
 
     // 키오스크에서 예약 검색
     @GetMapping("/store/reservation/search")
     public Page<ReservationDto> searchReservation(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String storename, @RequestParam String underName,
             @RequestParam String phone,
             @RequestParam Integer page, @RequestParam Integer size) {
         return storeService.searchReservation(
-                token, storename, underName, phone, PageRequest.of(page, size));
+                principal, storename, underName, phone, PageRequest.of(page, size));
     }
 
     // 키오스크에서 예약 도착 확인
     @PostMapping("/reservation/detail/arrival-check")
     public CommonResponse arrivalConfirm(
-            @RequestHeader(name = "X-AUTH-TOKEN") String token,
+            @ApiIgnore @AuthenticationPrincipal JwtPrincipal principal,
             @RequestParam String reservationUid) {
-        return storeService.arrivalConfirm(token, reservationUid);
+        return storeService.arrivalConfirm(principal, reservationUid);
     }
 
 }
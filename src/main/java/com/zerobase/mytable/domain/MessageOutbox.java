@@ -0,0 +1,60 @@
+package com.zerobase.mytable.domain;
+
+import com.zerobase.mytable.type.MessageStatus;
+import lombok.*;
+import org.hibernate.envers.AuditOverride;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 예약 트랜잭션과 함께 저장되고, 커밋 이후 MessageDispatcher가 발송하는 문자
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AuditOverride(forClass = BaseEntity.class)
+@Table(indexes = {
+        @Index(name = "idx_message_outbox_status_next_attempt_at",
+                columnList = "status, next_attempt_at"),
+        @Index(name = "idx_message_outbox_claim_token",
+                columnList = "claim_token")
+})
+public class MessageOutbox extends BaseEntity {
+    // 일괄 승인, 거절 시 여러 건을 한 번에 저장하므로 insert 배치가 가능한 pooled 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_outbox_seq")
+    @SequenceGenerator(name = "message_outbox_seq", sequenceName = "message_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    // 수신 번호
+    @Column(nullable = false)
+    private String phone;
+
+    // 문자 내용
+    @Column(nullable = false, length = 1000)
+    private String text;
+
+    // 발송 상태
+    private MessageStatus status;
+
+    // 발송 실패 횟수
+    private int retryCount;
+
+    // 다음 발송 가능 시간(발송 중인 경우 선점 만료 시간)
+    private LocalDateTime nextAttemptAt;
+
+    // 발송을 위해 선점한 디스패치 식별값
+    private String claimToken;
+
+    public static MessageOutbox from(String phone, String text) {
+        return MessageOutbox.builder()
+                .phone(phone)
+                .text(text)
+                .status(MessageStatus.PENDING)
+                .retryCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -2,12 +2,13 @@ package com.zerobase.mytable.domain;
 
 import com.zerobase.mytable.dto.ReservationDto;
 import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.ReservationUid;
+import com.zerobase.mytable.type.ReservationUidConverter;
 import lombok.*;
 import org.hibernate.envers.AuditOverride;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
 @Getter
@@ -16,16 +17,35 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @AuditOverride(forClass = BaseEntity.class)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_uid", columnNames = "uid")
+}, indexes = {
+        @Index(name = "idx_reservation_store_date_time",
+                columnList = "store_id, date_time"),
+        @Index(name = "idx_reservation_customer_date_time_id",
+                columnList = "customer_id, date_time, id"),
+        @Index(name = "idx_reservation_status_date_time",
+                columnList = "status, date_time"),
+        @Index(name = "idx_reservation_customer_store_status",
+                columnList = "customer_id, store_id, status"),
+        @Index(name = "idx_reservation_store_phone_status_date_time",
+                columnList = "store_id, phone, status, date_time")
+})
 public class Reservation extends BaseEntity{
+    // IDENTITY는 insert 배치가 꺼지므로 50개씩 미리 할당받는 pooled 시퀀스 사용
+    // (시퀀스를 지원하지 않는 DB에서는 reservation_seq 테이블로 대체)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
-    @Column(unique = true)
+    // UUIDv7을 BINARY(16)으로 저장(외부에는 32자리 hex 문자열로 노출)
+    @Convert(converter = ReservationUidConverter.class)
+    @Column(columnDefinition = "BINARY(16)")
     private String uid;
 
     // 예약 요청 고객
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Customer customer;
 
     // 예약 날짜
@@ -44,12 +64,12 @@ public class Reservation extends BaseEntity{
     private ReservationStatus status;
 
     // 예약 점포
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Store store;
 
     public static Reservation from(ReservationDto request, Customer customer, Store store) {
         return Reservation.builder()
-                .uid(UUID.randomUUID().toString().replace("-", ""))
+                .uid(ReservationUid.generate())
                 .customer(customer)
                 .dateTime(LocalDateTime.of(request.getDate(), request.getTime()))
                 .underName(request.getUnderName())
@@ -13,9 +13,15 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @AuditOverride(forClass = BaseEntity.class)
+@Table(indexes = {
+        @Index(name = "idx_review_store_created_at_id",
+                columnList = "store_id, created_at, id")
+})
 public class Review extends BaseEntity{
+    // insert 배치를 위해 pooled 시퀀스 사용(50개 단위 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "review_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
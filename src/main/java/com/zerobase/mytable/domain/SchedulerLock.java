@@ -0,0 +1,30 @@
+package com.zerobase.mytable.domain;
+
+import lombok.*;
+import org.hibernate.envers.AuditOverride;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 여러 인스턴스에서 같은 스케줄 작업이 동시에 실행되지 않도록 하는 DB 잠금
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AuditOverride(forClass = BaseEntity.class)
+public class SchedulerLock extends BaseEntity {
+    // 스케줄 작업 이름
+    @Id
+    private String name;
+
+    // 잠금 만료 시간(작업 중 인스턴스가 종료되어도 이 시간 이후 다른 인스턴스가 획득 가능)
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // 잠금을 획득한 인스턴스
+    private String lockedBy;
+}
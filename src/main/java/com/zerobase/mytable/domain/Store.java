@@ -3,6 +3,10 @@ package com.zerobase.mytable.domain;
 import com.zerobase.mytable.dto.StoreRegisterDto;
 import com.zerobase.mytable.type.Address;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.envers.AuditOverride;
 
 import javax.persistence.*;
@@ -16,12 +20,17 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @AuditOverride(forClass = BaseEntity.class)
+// 점포는 변경이 드물어 id, 점포명 조회 모두 2차 캐시 사용(수정, 삭제 시 Hibernate가 캐시 갱신)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")
+@NaturalIdCache(region = "store-natural-id")
 public class Store extends BaseEntity{
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 점포명 변경이 가능하므로 mutable natural id
+    @NaturalId(mutable = true)
     @Column(unique = true)
     private String storename;
 
@@ -36,7 +45,7 @@ public class Store extends BaseEntity{
     @Column(nullable = false)
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Partner partner;
 
     @OneToMany(mappedBy = "store", cascade = CascadeType.PERSIST)
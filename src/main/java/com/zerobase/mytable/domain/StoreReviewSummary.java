@@ -0,0 +1,32 @@
+package com.zerobase.mytable.domain;
+
+import lombok.*;
+import org.hibernate.envers.AuditOverride;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+// 점포 별 리뷰 요약(리뷰 작성, 수정, 삭제 시 증분 갱신)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@AuditOverride(forClass = BaseEntity.class)
+public class StoreReviewSummary extends BaseEntity {
+    // 점포 id
+    @Id
+    private Long storeId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    // 최근 작성된 리뷰 id(최신순, 쉼표로 구분)
+    private String latestReviewIds;
+
+    // 리뷰가 작성, 수정, 삭제될 때마다 증가
+    @Column(nullable = false)
+    private long revision;
+}
@@ -1,18 +1,48 @@
 package com.zerobase.mytable.domain.restaurant;
 
 import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.StoreRegisterDto;
+import com.zerobase.mytable.type.Address;
 import com.zerobase.mytable.type.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Entity
+@Getter
+@Setter
+@NoArgsConstructor
 public class Restaurant extends Store {
+    // 여러 식당의 테이블 정보를 조회할 때 식당마다 쿼리가 실행되지 않도록 묶어서 조회
+    @BatchSize(size = 100)
     @ElementCollection(targetClass = Table.class, fetch = FetchType.LAZY)
     private List<Table> tables;
 
-    // from 메소드 사용할 경우 테이블 정렬해서 입력
-    // request.getTables().sort(Comparator.comparingInt(Table::getTableVolume));
+    // 테이블은 수용 인원 오름차순으로 정렬해서 입력
+    public static Restaurant from(StoreRegisterDto.Request request) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setStorename(request.getStorename());
+        restaurant.setPhone(request.getPhone());
+        restaurant.setAddress(Address.builder()
+                .sido(request.getSido())
+                .sigungu(request.getSigungu())
+                .roadname(request.getRoadname())
+                .detailAddress(request.getDetailAddress())
+                .build());
+        restaurant.setDescription(request.getDescription());
+
+        List<Table> tables = new ArrayList<>(request.getTables());
+        tables.sort(Comparator.comparingInt(Table::getTableVolume));
+        restaurant.setTables(tables);
+
+        return restaurant;
+    }
 }
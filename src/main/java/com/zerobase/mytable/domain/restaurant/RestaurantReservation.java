@@ -1,17 +1,47 @@
 package com.zerobase.mytable.domain.restaurant;
 
+import com.zerobase.mytable.domain.Customer;
 import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.dto.restaurant.RestaurantReservationDto;
+import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.ReservationUid;
 import com.zerobase.mytable.type.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import java.time.LocalDateTime;
 
 @Entity
+@Getter
+@Setter
+@NoArgsConstructor
 public class RestaurantReservation extends Reservation {
 
     // 예약 인원
     private Integer numberOfPeople;
 
+    // 배정된 테이블(수용 인원, 테이블 수)
     @Embedded
     private Table table;
+
+    public static RestaurantReservation from(RestaurantReservationDto request,
+                                             Customer customer,
+                                             Restaurant restaurant,
+                                             Table table) {
+        RestaurantReservation reservation = new RestaurantReservation();
+        reservation.setUid(ReservationUid.generate());
+        reservation.setCustomer(customer);
+        reservation.setDateTime(LocalDateTime.of(request.getDate(), request.getTime()));
+        reservation.setUnderName(request.getUnderName());
+        reservation.setPhone(request.getPhone());
+        reservation.setSpecialInstruction(request.getSpecialInstruction());
+        reservation.setStatus(ReservationStatus.WAITING);
+        reservation.setStore(restaurant);
+        reservation.setNumberOfPeople(request.getNumberOfPeople());
+        reservation.setTable(table);
+        return reservation;
+    }
 }
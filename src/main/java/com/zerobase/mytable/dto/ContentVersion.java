@@ -0,0 +1,34 @@
+package com.zerobase.mytable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+
+// 조건부 조회(304 Not Modified) 판단용 응답 버전
+// etag : 응답 내용이 바뀌면 함께 바뀌는 값, lastModified : 마지막 변경 시각(epoch ms, 모르면 -1)
+@Getter
+@AllArgsConstructor
+public class ContentVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    // 변경 시각 중 가장 최근 시각을 Last-Modified로 사용
+    public static ContentVersion of(String etag, LocalDateTime... modifiedAts) {
+        long lastModified = Arrays.stream(modifiedAts)
+                .filter(Objects::nonNull)
+                .mapToLong(ContentVersion::toEpochMilli)
+                .max()
+                .orElse(-1L);
+        return new ContentVersion(etag, lastModified);
+    }
+
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0L
+                : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,19 @@
+package com.zerobase.mytable.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+
+    // 다음 페이지 조회 시 after 파라미터로 전달할 커서(마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+}
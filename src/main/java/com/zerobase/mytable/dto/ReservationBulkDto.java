@@ -0,0 +1,23 @@
+package com.zerobase.mytable.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+// 파트너 예약 일괄 승인, 거절 요청
+public class ReservationBulkDto {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+
+        @NotEmpty(message = "반드시 값이 있어야 합니다.")
+        @Size(max = 100, message = "한 번에 100건까지 처리할 수 있습니다.")
+        private List<String> reservationUids;
+    }
+}
@@ -2,6 +2,7 @@ package com.zerobase.mytable.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.repository.ReservationRepository;
 import com.zerobase.mytable.type.ReservationStatus;
 import lombok.*;
 
@@ -60,4 +61,16 @@ public class ReservationDto {
                 .build();
     }
 
+    public static ReservationDto from(ReservationRepository.ReservationView view){
+        return ReservationDto.builder()
+                .uid(view.getUid())
+                .date(view.getDateTime().toLocalDate())
+                .time(view.getDateTime().toLocalTime())
+                .underName(view.getUnderName())
+                .phone(view.getPhone())
+                .specialInstruction(view.getSpecialInstruction())
+                .storename(view.getStorename())
+                .status(view.getStatus())
+                .build();
+    }
 }
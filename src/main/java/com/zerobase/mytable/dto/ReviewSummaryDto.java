@@ -0,0 +1,48 @@
+package com.zerobase.mytable.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.zerobase.mytable.domain.StoreReviewSummary;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReviewSummaryDto {
+
+    private long reviewCount;
+
+    // 최근 작성된 리뷰 id(최신순)
+    private List<Long> latestReviewIds;
+
+    // 조건부 조회(ETag, Last-Modified)용 리뷰 변경 버전과 마지막 변경 시각
+    @JsonIgnore
+    private long revision;
+
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
+    public static ReviewSummaryDto from(StoreReviewSummary summary) {
+        return ReviewSummaryDto.builder()
+                .reviewCount(summary.getReviewCount())
+                .latestReviewIds(toIds(summary.getLatestReviewIds()))
+                .revision(summary.getRevision())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    public static List<Long> toIds(String latestReviewIds) {
+        if (latestReviewIds == null || latestReviewIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(latestReviewIds.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+}
@@ -19,6 +19,9 @@ public class StoreDto {
 
     private String description;
 
+    // 점포 조회 시에만 포함
+    private ReviewSummaryDto reviewSummary;
+
     public static StoreDto from(Store store) {
         return StoreDto.builder()
                 .storename(store.getStorename())
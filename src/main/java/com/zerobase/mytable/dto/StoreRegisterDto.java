@@ -1,9 +1,11 @@
 package com.zerobase.mytable.dto;
 
+import com.zerobase.mytable.type.Table;
 import lombok.*;
 
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import java.util.List;
 
 public class StoreRegisterDto {
 
@@ -35,6 +37,9 @@ public class StoreRegisterDto {
         @NotNull(message = "반드시 값이 있어야 합니다.")
         private String description;
 
+        // 테이블 정보 입력 시 테이블 단위 예약을 받는 식당으로 등록
+        private List<Table> tables;
+
     }
 
     @Getter
@@ -0,0 +1,36 @@
+package com.zerobase.mytable.dto.restaurant;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AvailabilityDto {
+
+    private String storename;
+
+    private String sido;
+
+    private String sigungu;
+
+    // 요청한 시간 중 예약 가능한 시간(없으면 빈 목록)
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private List<LocalDateTime> availableDateTimes;
+
+    public static AvailabilityDto from(Restaurant restaurant,
+                                      List<LocalDateTime> availableDateTimes) {
+        return AvailabilityDto.builder()
+                .storename(restaurant.getStorename())
+                .sido(restaurant.getAddress().getSido())
+                .sigungu(restaurant.getAddress().getSigungu())
+                .availableDateTimes(availableDateTimes)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.zerobase.mytable.event;
+
+// outbox에 문자가 저장되었음을 알리는 이벤트(트랜잭션 커밋 후 발송 트리거)
+public class MessageEnqueuedEvent {
+}
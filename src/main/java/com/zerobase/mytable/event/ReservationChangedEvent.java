@@ -0,0 +1,16 @@
+package com.zerobase.mytable.event;
+
+import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.type.ReservationEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예약이 생성, 변경되었음을 알리는 이벤트(트랜잭션 커밋 후 점포 예약 피드로 전달)
+@Getter
+@AllArgsConstructor
+public class ReservationChangedEvent {
+
+    private final Long storeId;
+    private final ReservationEventType type;
+    private final ReservationDto reservation;
+}
@@ -0,0 +1,17 @@
+package com.zerobase.mytable.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 실행하는 SQL을 현재 요청의 RequestMetrics에 집계
+// spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.addStatement(sql);
+        }
+        return sql;
+    }
+}
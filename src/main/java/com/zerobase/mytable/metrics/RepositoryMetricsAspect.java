@@ -0,0 +1,46 @@
+package com.zerobase.mytable.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 저장소 메서드 호출 횟수 집계(저장소, 메서드 별 누적 횟수와 요청 별 호출 수)
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        meterRegistry.counter("repository.calls",
+                        "repository", repositoryName(joinPoint.getThis()),
+                        "method", joinPoint.getSignature().getName())
+                .increment();
+
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.incrementRepositoryCalls();
+        }
+
+        return joinPoint.proceed();
+    }
+
+    // 프록시가 구현한 저장소 인터페이스 이름(save 등 상위 인터페이스 메서드도 저장소 단위로 집계)
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            return interfaces.length == 0
+                    ? type.getSimpleName() : interfaces[0].getSimpleName();
+        });
+    }
+}
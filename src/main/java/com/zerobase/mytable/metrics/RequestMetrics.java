@@ -0,0 +1,64 @@
+package com.zerobase.mytable.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 요청 처리 스레드 단위로 집계하는 지표(요청 하나에서 발생한 저장소 호출 수, SQL 실행 수)
+// 요청 밖(스케줄러, 별도 스레드)에서는 current()가 null이므로 집계하지 않음
+public class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private int repositoryCalls;
+    private int statements;
+
+    // 테스트에서 실행된 SQL을 확인할 때만 저장
+    private final List<String> capturedStatements;
+
+    private RequestMetrics(boolean captureStatements) {
+        this.capturedStatements = captureStatements ? new ArrayList<>() : null;
+    }
+
+    public static RequestMetrics begin() {
+        return begin(false);
+    }
+
+    public static RequestMetrics begin(boolean captureStatements) {
+        RequestMetrics metrics = new RequestMetrics(captureStatements);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void incrementRepositoryCalls() {
+        repositoryCalls++;
+    }
+
+    public void addStatement(String sql) {
+        statements++;
+        if (capturedStatements != null) {
+            capturedStatements.add(sql);
+        }
+    }
+
+    public int getRepositoryCalls() {
+        return repositoryCalls;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public List<String> getCapturedStatements() {
+        return capturedStatements == null
+                ? List.of() : Collections.unmodifiableList(capturedStatements);
+    }
+}
@@ -0,0 +1,78 @@
+package com.zerobase.mytable.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+// 요청 별 저장소 호출 수, SQL 실행 수를 엔드포인트(uri 패턴) 단위 분포로 기록(N+1 발생 엔드포인트 확인용)
+// SQL 실행 수가 기준을 넘는 요청은 경고 로그 출력
+@Component
+@Slf4j
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementWarnThreshold;
+
+    public RequestMetricsInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.request.statement-warn-threshold}") int statementWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) {
+        RequestMetrics.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        record("http.server.requests.repository.calls", request.getMethod(), uri,
+                metrics.getRepositoryCalls());
+        record("http.server.requests.statements", request.getMethod(), uri,
+                metrics.getStatements());
+
+        if (metrics.getStatements() > statementWarnThreshold) {
+            log.warn("too many statements : {} {} executed {} statements",
+                    request.getMethod(), uri, metrics.getStatements());
+        }
+
+        RequestMetrics.end();
+    }
+
+    // 비동기 처리(SSE 등)가 시작되면 afterCompletion 없이 요청 스레드가 반환되므로 여기서 정리
+    // 이후 비동기 디스패치에서 preHandle, afterCompletion이 다시 호출되어 집계
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                               HttpServletResponse response,
+                                               Object handler) {
+        RequestMetrics.end();
+    }
+
+    private void record(String name, String method, String uri, int amount) {
+        DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
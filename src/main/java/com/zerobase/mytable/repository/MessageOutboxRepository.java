@@ -0,0 +1,40 @@
+package com.zerobase.mytable.repository;
+
+import com.zerobase.mytable.domain.MessageOutbox;
+import com.zerobase.mytable.type.MessageStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MessageOutboxRepository extends JpaRepository<MessageOutbox, Long> {
+    @Query("select m.id from MessageOutbox m " +
+            "where m.status in :statuses and m.nextAttemptAt <= :now " +
+            "order by m.id asc")
+    List<Long> findIdsToDispatch(@Param("statuses") Collection<MessageStatus> statuses,
+                                 @Param("now") LocalDateTime now,
+                                 Pageable pageable);
+
+    // 조회 이후 다른 인스턴스가 먼저 선점한 문자는 상태 조건에 맞지 않아 변경되지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MessageOutbox m set m.status = :sending, " +
+            "m.claimToken = :claimToken, m.nextAttemptAt = :claimedUntil " +
+            "where m.id in :ids and m.status in :statuses and m.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("statuses") Collection<MessageStatus> statuses,
+              @Param("sending") MessageStatus sending,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now,
+              @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    List<MessageOutbox> findAllByClaimTokenOrderByIdAsc(String claimToken);
+}
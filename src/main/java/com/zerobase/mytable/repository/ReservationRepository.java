@@ -1,20 +1,155 @@
 package com.zerobase.mytable.repository;
 
+import com.zerobase.mytable.domain.Customer;
 import com.zerobase.mytable.domain.Reservation;
 import com.zerobase.mytable.domain.Store;
 import com.zerobase.mytable.type.ReservationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    // ReservationDto 조회용 select 절(예약 컬럼과 점포 id, 점포명만 조회)
+    String VIEW_SELECT = "select r.id as id, r.uid as uid, r.dateTime as dateTime, " +
+            "r.underName as underName, r.phone as phone, " +
+            "r.specialInstruction as specialInstruction, s.id as storeId, " +
+            "s.storename as storename, r.status as status " +
+            "from Reservation r join r.store s ";
+
     Optional<Reservation> findByUid(String uid);
-    List<Reservation> findAllByUnderNameAndPhoneAndStoreAndStatus(
-            String underName, String phone, Store store, ReservationStatus status);
-    List<Reservation> findAllByStatusAndDateTimeBefore(
-            ReservationStatus reservationStatus, LocalDateTime dateTime);
+
+    // 복제 지연으로 방금 생성된 예약이 복제 DB에 없을 때 원본 DB에서 다시 조회
+    // 호출한 읽기 전용 트랜잭션과 분리된 새 트랜잭션으로 원본 DB에 연결하고, 트랜잭션 종료 후 사용할 점포, 고객을 함께 조회
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("select r from Reservation r join fetch r.store join fetch r.customer " +
+            "where r.uid = :uid")
+    Optional<Reservation> findWithStoreAndCustomerByUidOnPrimary(@Param("uid") String uid);
+
+    // 고객의 점포 이용 여부 조회((customer_id, store_id, status) 인덱스 사용)
+    boolean existsByCustomerAndStoreAndStatus(
+            Customer customer, Store store, ReservationStatus status);
+
+    // 상태 일괄 변경 대상 id 조회((status, date_time) 인덱스 범위 조회 후 limit 만큼만 읽음)
+    @Query("select r.id from Reservation r " +
+            "where r.status = :status and r.dateTime < :dateTime")
+    List<Long> findIdsByStatusAndDateTimeBefore(
+            @Param("status") ReservationStatus status,
+            @Param("dateTime") LocalDateTime dateTime,
+            Pageable pageable);
+
+    // uid 목록의 예약을 점포, 점주와 함께 조회(일괄 처리 시 소유 확인을 한 번의 쿼리로 처리)
+    @Query("select r from Reservation r join fetch r.store s join fetch s.partner " +
+            "where r.uid in :uids")
+    List<Reservation> findAllWithStoreByUidIn(@Param("uids") Collection<String> uids);
+
+    // id 목록의 예약 상태 일괄 변경(변경 전 상태가 일치하는 건만 변경)
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to, r.updatedAt = :now " +
+            "where r.id in :ids and r.status = :from")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids,
+                           @Param("from") ReservationStatus from,
+                           @Param("to") ReservationStatus to,
+                           @Param("now") LocalDateTime now);
+
+    // 점포 별 기간 내 예약 조회((store_id, date_time) 인덱스 사용)
+    @Query(value = VIEW_SELECT +
+            "where r.store = :store and r.dateTime between :start and :end " +
+            "order by r.dateTime asc, r.createdAt asc",
+            countQuery = "select count(r) from Reservation r " +
+                    "where r.store = :store and r.dateTime between :start and :end")
+    Page<ReservationView> findViewsByStoreAndDateTimeBetween(
+            @Param("store") Store store,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Pageable pageable);
+
+    // 키오스크 예약 검색(기간 내 예약자명, 전화번호, 상태 일치 예약을 예약 일시 순으로 조회)
+    // (store_id, phone, status, date_time) 인덱스 사용
+    @Query(VIEW_SELECT +
+            "where r.store = :store and r.phone = :phone and r.status = :status " +
+            "and r.dateTime between :start and :end and r.underName = :underName " +
+            "order by r.dateTime asc, r.id asc")
+    List<ReservationView> findViewsByStoreAndUnderNameAndPhoneAndStatusAndDateTimeBetween(
+            @Param("store") Store store,
+            @Param("underName") String underName,
+            @Param("phone") String phone,
+            @Param("status") ReservationStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 점포의 기간 내 특정 상태 예약 조회((store_id, date_time) 인덱스 사용)
+    @Query(VIEW_SELECT +
+            "where r.store = :store and r.dateTime between :start and :end " +
+            "and r.status = :status order by r.dateTime asc, r.id asc")
+    List<ReservationView> findViewsByStoreAndStatusAndDateTimeBetween(
+            @Param("store") Store store,
+            @Param("status") ReservationStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 전체 점포의 기간 내 특정 상태 예약 조회((status, date_time) 인덱스 사용)
+    @Query(VIEW_SELECT +
+            "where r.status = :status and r.dateTime between :start and :end " +
+            "order by r.dateTime asc, r.id asc")
+    List<ReservationView> findViewsByStatusAndDateTimeBetween(
+            @Param("status") ReservationStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 고객 예약 목록 페이지 조회((customer_id, date_time, id) 인덱스 사용)
+    @Query(value = VIEW_SELECT +
+            "where r.customer = :customer order by r.dateTime asc, r.id asc",
+            countQuery = "select count(r) from Reservation r where r.customer = :customer")
+    Page<ReservationView> findViewsByCustomer(
+            @Param("customer") Customer customer, Pageable pageable);
+
+    // 고객 예약 목록 첫 페이지 조회((customer_id, date_time, id) 인덱스 사용)
+    @Query(VIEW_SELECT +
+            "where r.customer = :customer order by r.dateTime asc, r.id asc")
+    List<ReservationView> findViewsByCustomerOrderByDateTimeAscIdAsc(
+            @Param("customer") Customer customer, Pageable pageable);
+
+    // 커서 이후의 고객 예약 목록 조회(offset 없이 인덱스 탐색)
+    @Query(VIEW_SELECT + "where r.customer = :customer " +
+            "and (r.dateTime > :dateTime or (r.dateTime = :dateTime and r.id > :id)) " +
+            "order by r.dateTime asc, r.id asc")
+    List<ReservationView> findViewsByCustomerAfterCursor(
+            @Param("customer") Customer customer,
+            @Param("dateTime") LocalDateTime dateTime,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // 예약 목록 응답에 필요한 컬럼만 담는 projection
+    interface ReservationView {
+        Long getId();
+
+        String getUid();
+
+        LocalDateTime getDateTime();
+
+        String getUnderName();
+
+        String getPhone();
+
+        String getSpecialInstruction();
+
+        Long getStoreId();
+
+        String getStorename();
+
+        ReservationStatus getStatus();
+    }
 }
@@ -0,0 +1,12 @@
+package com.zerobase.mytable.repository;
+
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
+    Page<Restaurant> findAllByAddressSido(String sido, Pageable pageable);
+}
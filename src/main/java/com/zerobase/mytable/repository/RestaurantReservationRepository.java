@@ -0,0 +1,50 @@
+package com.zerobase.mytable.repository;
+
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.domain.restaurant.RestaurantReservation;
+import com.zerobase.mytable.type.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RestaurantReservationRepository
+        extends JpaRepository<RestaurantReservation, Long> {
+
+    // 점포의 기간 내 테이블 크기, 예약 시간 별 예약 건수 조회((store_id, date_time) 인덱스 사용)
+    @Query("select r.table.tableVolume as tableVolume, r.dateTime as dateTime, " +
+            "count(r) as reservationCount from RestaurantReservation r " +
+            "where r.store = :store and r.dateTime >= :start and r.dateTime < :end " +
+            "and r.status in :statuses " +
+            "group by r.table.tableVolume, r.dateTime")
+    List<SlotUsage> countByTableVolumeAndDateTime(
+            @Param("store") Store store,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    // 점포의 기간 내 특정 크기 테이블 예약 시간 조회
+    @Query("select r.dateTime from RestaurantReservation r " +
+            "where r.store = :store and r.table.tableVolume = :tableVolume " +
+            "and r.dateTime >= :start and r.dateTime < :end " +
+            "and r.status in :statuses")
+    List<LocalDateTime> findDateTimesByTableVolume(
+            @Param("store") Store store,
+            @Param("tableVolume") Integer tableVolume,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("statuses") Collection<ReservationStatus> statuses);
+
+    interface SlotUsage {
+        Integer getTableVolume();
+
+        LocalDateTime getDateTime();
+
+        Long getReservationCount();
+    }
+}
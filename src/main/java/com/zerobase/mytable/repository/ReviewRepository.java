@@ -1,10 +1,23 @@
 package com.zerobase.mytable.repository;
 
 import com.zerobase.mytable.domain.Review;
+import com.zerobase.mytable.domain.Store;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // 점포 리뷰 페이지 조회(전체 건수는 리뷰 요약 사용)
+    List<Review> findAllByStore(Store store, Pageable pageable);
+
+    long countByStore(Store store);
+
+    @Query("select r.id from Review r where r.store = :store")
+    List<Long> findIdsByStore(@Param("store") Store store, Pageable pageable);
 }
@@ -1,17 +1,42 @@
 package com.zerobase.mytable.repository;
 
 import com.zerobase.mytable.domain.Store;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StoreRepository extends JpaRepository<Store, Long> {
-    Optional<Store> findByStorename(String storename);
+public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom {
+
+    // 동시 예약 시 테이블 수 검증을 점포 단위로 직렬화하기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Store s where s.id = :id")
+    Optional<Store> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select s.storename from Store s")
+    List<String> findAllStorenames();
+
+    // 응답 버전 확인용 점포 수정 시각, 리뷰 요약 revision과 수정 시각 조회
+    // 인스턴스 별 캐시(점포 2차 캐시, 리뷰 요약 캐시)를 거치지 않고 PK로 DB에서 조회
+    @Query("select s.updatedAt as storeUpdatedAt, rs.revision as reviewRevision, " +
+            "rs.updatedAt as reviewUpdatedAt " +
+            "from Store s left join StoreReviewSummary rs on rs.storeId = s.id " +
+            "where s.id = :id")
+    Optional<InfoVersion> findInfoVersionById(@Param("id") Long id);
+
+    // 점포 정보 응답 버전 projection(리뷰 요약 행이 없으면 revision, 수정 시각은 null)
+    interface InfoVersion {
+        LocalDateTime getStoreUpdatedAt();
+
+        Long getReviewRevision();
 
-    List<Store> findByStorenameContains(String keyword, Pageable pageable);
+        LocalDateTime getReviewUpdatedAt();
+    }
 }
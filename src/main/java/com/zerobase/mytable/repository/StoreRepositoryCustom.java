@@ -0,0 +1,14 @@
+package com.zerobase.mytable.repository;
+
+import com.zerobase.mytable.domain.Store;
+
+import java.util.Optional;
+
+// 점포명(natural id) 조회를 2차 캐시를 거치도록 직접 구현
+public interface StoreRepositoryCustom {
+
+    Optional<Store> findByStorename(String storename);
+
+    // 이 인스턴스의 2차 캐시에서 점포 제거(다른 인스턴스에서 삭제된 점포 확인 시 사용)
+    void evictFromCache(Store store);
+}
@@ -0,0 +1,40 @@
+package com.zerobase.mytable.repository;
+
+import com.zerobase.mytable.domain.Store;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+// Session을 직접 사용하므로 서비스 트랜잭션 밖에서 호출되어도 조회 동안 세션이 열려 있도록 트랜잭션 적용
+@Transactional(readOnly = true)
+public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 점포명 -> id는 natural id 캐시, id -> 점포는 엔티티 캐시에서 조회하고 없을 때만 DB 조회
+    // JPQL 조회(파생 쿼리)는 2차 캐시를 사용하지 않으므로 Session의 natural id 조회 사용
+    @Override
+    public Optional<Store> findByStorename(String storename) {
+        if (storename == null) {
+            return Optional.empty();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Store.class)
+                .loadOptional(storename);
+    }
+
+    // 점포 캐시에서 제거하면 점포명 natural id 캐시에 id가 남아 있어도 DB 조회 후 없는 점포로 처리
+    @Override
+    public void evictFromCache(Store store) {
+        entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getCache()
+                .evictEntityData(Store.class, store.getId());
+    }
+}
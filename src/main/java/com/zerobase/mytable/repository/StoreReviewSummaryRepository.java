@@ -0,0 +1,29 @@
+package com.zerobase.mytable.repository;
+
+import com.zerobase.mytable.domain.StoreReviewSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface StoreReviewSummaryRepository extends JpaRepository<StoreReviewSummary, Long> {
+
+    // 같은 점포의 요약 갱신을 직렬화하기 위해 행 잠금 후 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from StoreReviewSummary s where s.storeId = :storeId")
+    Optional<StoreReviewSummary> findByStoreIdForUpdate(@Param("storeId") Long storeId);
+
+    // 요약 행이 없으면 빈 행 생성(1 반환), 이미 있거나 다른 트랜잭션이 먼저 생성하면 무시(0 반환)
+    // 동시에 생성하는 트랜잭션은 키 잠금을 기다린 후 무시되므로 중복 키 오류 없이 행 잠금 조회로 이어짐
+    @Modifying
+    @Query(value = "insert ignore into store_review_summary " +
+            "(store_id, review_count, revision, created_at, updated_at) " +
+            "values (:storeId, 0, 0, now(), now())", nativeQuery = true)
+    int insertIfAbsent(@Param("storeId") Long storeId);
+}
@@ -25,8 +25,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = tokenProvider.resolveToken(request);
 
-        if (token != null && tokenProvider.validateToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        if (token != null) {
+            JwtPrincipal principal = tokenProvider.parseToken(token);
+            Authentication authentication = tokenProvider.getAuthentication(principal);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
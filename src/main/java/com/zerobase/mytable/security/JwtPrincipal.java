@@ -0,0 +1,21 @@
+package com.zerobase.mytable.security;
+
+import com.zerobase.mytable.type.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 요청마다 한 번만 검증, 파싱한 토큰 정보(SecurityContext의 principal로 사용)
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+
+    private final String uid;
+
+    private final List<String> roles;
+
+    public boolean hasRole(UserType userType) {
+        return roles.contains(userType.toString());
+    }
+}
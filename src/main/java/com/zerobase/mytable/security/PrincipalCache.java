@@ -0,0 +1,41 @@
+package com.zerobase.mytable.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증된 회원 정보를 uid 기준으로 일정 시간 캐싱하여 요청마다 회원 조회 쿼리가 실행되지 않도록 함
+// 회원 정보 수정, 삭제 시 MemberInfoService에서 무효화
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.max-size}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets(result=hit/miss), cache.evictions 등 적중률 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    public UserDetails get(String uid, Function<String, UserDetails> loader) {
+        return cache.get(uid, loader);
+    }
+
+    public void invalidate(String uid) {
+        cache.invalidate(uid);
+    }
+}
@@ -28,6 +28,7 @@ public class TokenProvider {
 
     private final PartnerService partnerService;
     private final CustomerService customerService;
+    private final PrincipalCache principalCache;
 
     @Value("${springboot.jwt.secret}")
     private String secretKey;
@@ -55,44 +56,45 @@ public class TokenProvider {
                 .compact();
     }
 
-    // 토큰 인증 정보 조회 및 Authentication 생성
-    public Authentication getAuthentication(String token) {
+    // 검증된 토큰 정보로 Authentication 생성(회원 정보는 캐시에서 우선 조회)
+    // principal로는 토큰 정보를 담아 컨트롤러에서 토큰을 다시 파싱하지 않도록 함
+    public Authentication getAuthentication(JwtPrincipal principal) {
         UserDetails userDetails;
 
-        if (getRole(token).equals(List.of(UserType.ROLE_PARTNER.toString()))) {
-            userDetails = partnerService.loadUserByUsername(getUid(token));
+        if (principal.hasRole(UserType.ROLE_PARTNER)) {
+            userDetails = principalCache.get(principal.getUid(),
+                    partnerService::loadUserByUsername);
         } else {
-            userDetails = customerService.loadUserByUsername(getUid(token));
+            userDetails = principalCache.get(principal.getUid(),
+                    customerService::loadUserByUsername);
         }
 
-        return new UsernamePasswordAuthenticationToken(userDetails, "",
+        return new UsernamePasswordAuthenticationToken(principal, "",
                 userDetails.getAuthorities());
     }
 
-    // 토큰으로부터 uid 추출
-    public String getUid(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token)
-                .getBody().getSubject();
-    }
-
-    // 토큰으로부터 role 추출
-    public Object getRole(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token)
-                .getBody().get("roles");
-    }
-
     // http 헤더에서 token 값 추출
     public String resolveToken(HttpServletRequest request){
         return request.getHeader("X-AUTH-TOKEN");
     }
 
-    // 토큰 유효성 체크
-    public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey)
-                    .parseClaimsJws(token);
+    // 토큰 유효성 체크와 uid, role 추출을 한 번의 파싱으로 처리
+    @SuppressWarnings("unchecked")
+    public JwtPrincipal parseToken(String token) {
+        Claims claims = parseClaims(token);
 
-            return !claims.getBody().getExpiration().before(new Date());
+        if (claims.getExpiration().before(new Date())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        return new JwtPrincipal(claims.getSubject(),
+                (List<String>) claims.get("roles", List.class));
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            return Jwts.parser().setSigningKey(secretKey)
+                    .parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
@@ -0,0 +1,188 @@
+package com.zerobase.mytable.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.dto.restaurant.AvailabilityDto;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.RestaurantRepository;
+import com.zerobase.mytable.type.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+// 여러 식당, 여러 시간에 대한 테이블 예약 가능 여부 조회
+// 식당 별 하루치 재고는 RestaurantCapacityManager의 메모리 재고를 사용하고, 식당 단위로 병렬 조회
+// 식당 목록 조회와 식당 별 재고 적재는 각각 짧은 읽기 전용 트랜잭션으로 처리하여 결과를 기다리는 요청 스레드는 DB 연결을 잡지 않음
+@Service
+@Slf4j
+public class AvailabilityService {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantCapacityManager restaurantCapacityManager;
+    private final ExecutorService executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, Page<AvailabilityDto>> cache;
+    private final int maxSlots;
+
+    public AvailabilityService(
+            RestaurantRepository restaurantRepository,
+            RestaurantCapacityManager restaurantCapacityManager,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${restaurant.availability.parallelism}") int parallelism,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize,
+            @Value("${restaurant.availability.max-slots}") int maxSlots,
+            @Value("${restaurant.availability.cache-max-size}") long cacheMaxSize,
+            @Value("${restaurant.availability.cache-ttl-seconds}") long cacheTtlSeconds) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantCapacityManager = restaurantCapacityManager;
+        this.maxSlots = maxSlots;
+
+        // 병렬 조회 스레드마다 DB 연결을 사용하므로 다른 요청이 쓸 연결을 남기도록 연결 풀 크기의 절반까지만 사용
+        int threads = Math.max(1, Math.min(parallelism, maxPoolSize / 2));
+        if (threads < parallelism) {
+            log.warn("restaurant availability parallelism is limited to {} by connection pool size {}",
+                    threads, maxPoolSize);
+        }
+        this.executor = Executors.newFixedThreadPool(threads);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // 같은 조건의 반복 조회는 짧은 시간 동안 캐시된 결과로 응답
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "restaurant.availability");
+    }
+
+    // 날짜 x 시간 조합 별로 인원을 수용할 수 있는 테이블이 남은 식당 조회
+    // 식당 목록은 DB에서 페이지 단위로 조회하고, 예약 가능 시간이 없는 식당은 빈 목록으로 반환
+    public Page<AvailabilityDto> searchAvailability(String sido,
+                                                    List<LocalDate> dates,
+                                                    List<LocalTime> times,
+                                                    int numberOfPeople,
+                                                    PageRequest pageRequest) {
+        if (dates.isEmpty() || times.isEmpty() || numberOfPeople < 1
+                || dates.size() * times.size() > maxSlots) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        List<LocalDateTime> dateTimes = new ArrayList<>();
+        for (LocalDate date : dates.stream().distinct().sorted()
+                .collect(Collectors.toList())) {
+            for (LocalTime time : times.stream().distinct().sorted()
+                    .collect(Collectors.toList())) {
+                dateTimes.add(LocalDateTime.of(date, time));
+            }
+        }
+
+        String key = String.join("|", String.valueOf(sido), dateTimes.toString(),
+                String.valueOf(numberOfPeople),
+                String.valueOf(pageRequest.getPageNumber()),
+                String.valueOf(pageRequest.getPageSize()));
+
+        return cache.get(key, k -> search(sido, dateTimes, numberOfPeople, pageRequest));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Page<AvailabilityDto> search(String sido,
+                                         List<LocalDateTime> dateTimes,
+                                         int numberOfPeople,
+                                         PageRequest pageRequest) {
+        PageRequest sortedPageRequest = PageRequest.of(
+                pageRequest.getPageNumber(), pageRequest.getPageSize(), Sort.by("id"));
+
+        // 테이블 정보는 요청 스레드에서 미리 조회(@BatchSize로 페이지 단위 묶음 조회)
+        Page<Restaurant> restaurants = readOnlyTransaction.execute(status -> {
+            Page<Restaurant> page = sido == null
+                    ? restaurantRepository.findAll(sortedPageRequest)
+                    : restaurantRepository.findAllByAddressSido(sido, sortedPageRequest);
+            page.forEach(restaurant -> Hibernate.initialize(restaurant.getTables()));
+            return page;
+        });
+
+        // 지난 시간이거나 한달 이후인 시간은 예약할 수 없으므로 제외
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate limit = LocalDate.now().plusMonths(1);
+        List<LocalDateTime> bookableDateTimes = dateTimes.stream()
+                .filter(dateTime -> dateTime.isAfter(now)
+                        && limit.isAfter(dateTime.toLocalDate()))
+                .collect(Collectors.toList());
+
+        // 식당 별 재고 적재(캐시에 없으면 DB 조회)와 계산을 풀에서 식당 단위로 병렬 처리
+        // 풀 스레드는 호출한 트랜잭션을 이어받지 못하므로 작업마다 읽기 전용 트랜잭션(복제 DB 대상)을 시작
+        Set<LocalDate> dates = bookableDateTimes.stream()
+                .map(LocalDateTime::toLocalDate)
+                .collect(Collectors.toCollection(TreeSet::new));
+        List<CompletableFuture<AvailabilityDto>> futures = restaurants.getContent().stream()
+                .map(restaurant -> CompletableFuture.supplyAsync(
+                        () -> readOnlyTransaction.execute(status -> checkAvailability(
+                                restaurant,
+                                restaurantCapacityManager.loadAvailability(restaurant, dates),
+                                bookableDateTimes, numberOfPeople)),
+                        executor))
+                .collect(Collectors.toList());
+
+        List<AvailabilityDto> availabilities = futures.stream()
+                .map(AvailabilityService::join)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(availabilities, pageRequest, restaurants.getTotalElements());
+    }
+
+    // 풀에서 발생한 예외(CustomException 등)는 CompletionException을 벗겨서 그대로 전달
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private AvailabilityDto checkAvailability(Restaurant restaurant,
+                                              RestaurantCapacityManager.Availability availability,
+                                              List<LocalDateTime> dateTimes,
+                                              int numberOfPeople) {
+        List<LocalDateTime> availableDateTimes = dateTimes.stream()
+                .filter(dateTime -> availability.isAvailable(dateTime, numberOfPeople))
+                .collect(Collectors.toList());
+
+        return AvailabilityDto.from(restaurant, availableDateTimes);
+    }
+}
@@ -0,0 +1,181 @@
+package com.zerobase.mytable.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.event.ReservationChangedEvent;
+import com.zerobase.mytable.repository.ReservationRepository;
+import com.zerobase.mytable.type.ReservationStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 키오스크 도착 확인용 점포 별 오늘 확정 예약(CONFIRM) 메모리 색인
+// 오픈 시(애플리케이션 시작, 자정) 전체 점포를 한 번에 적재하고,
+// 예약 확정, 수정, 취소, 거절, 도착 확인은 커밋 이후 ReservationChangedEvent로 반영
+// 다른 인스턴스의 변경(노쇼 일괄 처리 포함)은 일정 시간 후 재적재로 반영하고, 색인에 없는 예약자는 DB에서 한 번 더 확인
+// 색인에 남은 상태가 바뀐 예약은 도착 확인(StoreService.arrivalConfirm)에서 확정 상태를 다시 검증하여 거절
+@Service
+@Slf4j
+public class KioskArrivalBoard {
+
+    private final ReservationRepository reservationRepository;
+    private final Cache<Long, StoreArrivals> cache;
+
+    public KioskArrivalBoard(
+            ReservationRepository reservationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${kiosk.arrival-board.max-stores}") long maxStores,
+            @Value("${kiosk.arrival-board.ttl-seconds}") long ttlSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxStores)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kiosk.arrival-board");
+    }
+
+    // 예약자명과 전화번호가 일치하는 점포의 오늘 확정 예약 조회(예약 일시 순)
+    public List<ReservationDto> find(Store store, String underName, String phone) {
+        LocalDate today = LocalDate.now();
+        StoreArrivals arrivals = getArrivals(store, today);
+
+        List<ReservationDto> found = arrivals.find(underName, phone);
+        if (!found.isEmpty()) {
+            return found;
+        }
+
+        // 다른 인스턴스에서 확정된 예약이 아직 반영되지 않았을 수 있어 DB 확인
+        List<ReservationDto> reservations = reservationRepository
+                .findViewsByStoreAndUnderNameAndPhoneAndStatusAndDateTimeBetween(
+                        store, underName, phone, ReservationStatus.CONFIRM,
+                        today.atStartOfDay(), today.atTime(LocalTime.MAX)).stream()
+                .map(ReservationDto::from)
+                .collect(Collectors.toList());
+        reservations.forEach(arrivals::put);
+        return reservations;
+    }
+
+    // 예약 변경 커밋 이후 적재된 점포의 오늘 예약만 반영(CONFIRM이 아니면 색인에서 제거)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        StoreArrivals arrivals = cache.getIfPresent(event.getStoreId());
+        ReservationDto reservation = event.getReservation();
+        if (arrivals == null || !arrivals.date.equals(reservation.getDate())) {
+            return;
+        }
+
+        arrivals.remove(reservation.getUid());
+        if (reservation.getStatus() == ReservationStatus.CONFIRM) {
+            arrivals.put(reservation);
+        }
+    }
+
+    // 오픈 시 전체 점포의 오늘 확정 예약을 한 번의 조회로 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${kiosk.arrival-board.warm-up-cron}")
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        Map<Long, StoreArrivals> arrivalsByStore = new HashMap<>();
+
+        reservationRepository.findViewsByStatusAndDateTimeBetween(
+                        ReservationStatus.CONFIRM,
+                        today.atStartOfDay(), today.atTime(LocalTime.MAX))
+                .forEach(view -> arrivalsByStore
+                        .computeIfAbsent(view.getStoreId(), id -> new StoreArrivals(today))
+                        .put(ReservationDto.from(view)));
+
+        cache.invalidateAll();
+        cache.putAll(arrivalsByStore);
+        log.info("Kiosk arrival board warmed up with {} stores.", arrivalsByStore.size());
+    }
+
+    // 적재된 색인이 없으면 DB에서 적재하고, 어제 적재된 색인이면 교체
+    private StoreArrivals getArrivals(Store store, LocalDate today) {
+        StoreArrivals arrivals = cache.get(store.getId(), storeId -> load(store, today));
+        if (arrivals.date.equals(today)) {
+            return arrivals;
+        }
+
+        cache.asMap().remove(store.getId(), arrivals);
+        return cache.get(store.getId(), storeId -> load(store, today));
+    }
+
+    private StoreArrivals load(Store store, LocalDate date) {
+        StoreArrivals arrivals = new StoreArrivals(date);
+        reservationRepository.findViewsByStoreAndStatusAndDateTimeBetween(
+                        store, ReservationStatus.CONFIRM,
+                        date.atStartOfDay(), date.atTime(LocalTime.MAX))
+                .forEach(view -> arrivals.put(ReservationDto.from(view)));
+        return arrivals;
+    }
+
+    // 한 점포의 하루 확정 예약((예약자명, 전화번호) -> (uid -> 예약))
+    private static class StoreArrivals {
+
+        private static final Comparator<ReservationDto> BY_DATE_TIME =
+                Comparator.comparing(ReservationDto::getTime)
+                        .thenComparing(ReservationDto::getUid);
+
+        private final LocalDate date;
+        private final Map<String, Map<String, ReservationDto>> byGuest =
+                new ConcurrentHashMap<>();
+        private final Map<String, String> guestByUid = new ConcurrentHashMap<>();
+
+        private StoreArrivals(LocalDate date) {
+            this.date = date;
+        }
+
+        private List<ReservationDto> find(String underName, String phone) {
+            Map<String, ReservationDto> reservations = byGuest.get(key(underName, phone));
+            if (reservations == null) {
+                return Collections.emptyList();
+            }
+
+            List<ReservationDto> found = new ArrayList<>(reservations.values());
+            found.sort(BY_DATE_TIME);
+            return found;
+        }
+
+        private void put(ReservationDto reservation) {
+            String key = key(reservation.getUnderName(), reservation.getPhone());
+            guestByUid.put(reservation.getUid(), key);
+            byGuest.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                    .put(reservation.getUid(), reservation);
+        }
+
+        private void remove(String uid) {
+            String key = guestByUid.remove(uid);
+            if (key == null) {
+                return;
+            }
+
+            byGuest.computeIfPresent(key, (k, reservations) -> {
+                reservations.remove(uid);
+                return reservations.isEmpty() ? null : reservations;
+            });
+        }
+
+        private static String key(String underName, String phone) {
+            return underName + "\n" + phone;
+        }
+    }
+}
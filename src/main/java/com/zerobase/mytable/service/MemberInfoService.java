@@ -6,7 +6,8 @@ import com.zerobase.mytable.dto.MemberInfoDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.CustomerRepository;
 import com.zerobase.mytable.repository.PartnerRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.PrincipalCache;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -19,27 +20,28 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class MemberInfoService {
 
-    private final TokenProvider tokenProvider;
     private final PartnerRepository partnerRepository;
     private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     // 파트너 회원 정보 조회
-    public MemberInfoDto getPartnerInfo(String token) {
-        Partner partner = partnerRepository.getByUid(tokenProvider.getUid(token));
+    public MemberInfoDto getPartnerInfo(JwtPrincipal principal) {
+        Partner partner = partnerRepository.getByUid(principal.getUid());
         return MemberInfoDto.fromPartner(partner);
     }
 
     // 고객 회원 정보 조회
-    public MemberInfoDto getCustomerInfo(String token) {
+    public MemberInfoDto getCustomerInfo(JwtPrincipal principal) {
         Customer customer = customerRepository.getByUid(
-                tokenProvider.getUid(token));
+                principal.getUid());
         return MemberInfoDto.fromCustomer(customer);
     }
 
     // 파트너 회원 정보 수정
-    public MemberInfoDto updatePartnerInfo(String token, MemberInfoDto request) {
-        Partner partner = partnerRepository.getByUid(tokenProvider.getUid(token));
+    public MemberInfoDto updatePartnerInfo(JwtPrincipal principal, MemberInfoDto request) {
+        String uid = principal.getUid();
+        Partner partner = partnerRepository.getByUid(uid);
 
         if (!partner.getEmail().equals(request.getEmail())) {
             if (partnerRepository.findByEmail(request.getEmail()).isPresent()) {
@@ -53,12 +55,16 @@ public class MemberInfoService {
         partner.setPhone(request.getPhone());
         partner.setBirth(request.getBirth());
 
-        return MemberInfoDto.fromPartner(partnerRepository.save(partner));
+        Partner savedPartner = partnerRepository.save(partner);
+        principalCache.invalidate(uid);
+
+        return MemberInfoDto.fromPartner(savedPartner);
     }
 
     // 고객 회원 정보 수정
-    public MemberInfoDto updateCustomerInfo(String token, MemberInfoDto request) {
-        Customer customer = customerRepository.getByUid(tokenProvider.getUid(token));
+    public MemberInfoDto updateCustomerInfo(JwtPrincipal principal, MemberInfoDto request) {
+        String uid = principal.getUid();
+        Customer customer = customerRepository.getByUid(uid);
 
         if (!customer.getEmail().equals(request.getEmail())) {
             if (customerRepository.findByEmail(request.getEmail()).isPresent()) {
@@ -72,26 +78,33 @@ public class MemberInfoService {
         customer.setPhone(request.getPhone());
         customer.setBirth(request.getBirth());
 
-        return MemberInfoDto.fromCustomer(customerRepository.save(customer));
+        Customer savedCustomer = customerRepository.save(customer);
+        principalCache.invalidate(uid);
+
+        return MemberInfoDto.fromCustomer(savedCustomer);
     }
 
     // 파트너 회원 정보 삭제(패스워드 확인 후 처리)
-    public CommonResponse deletePartnerInfo(String token, String password) {
-        Partner partner = partnerRepository.getByUid(tokenProvider.getUid(token));
+    public CommonResponse deletePartnerInfo(JwtPrincipal principal, String password) {
+        String uid = principal.getUid();
+        Partner partner = partnerRepository.getByUid(uid);
 
         passwordMatch(password, partner.getPassword());
 
         partnerRepository.delete(partner);
+        principalCache.invalidate(uid);
         return CommonResponse.SUCCESS;
     }
 
     // 고객 회원 정보 삭제(패스워드 확인 후 처리)
-    public CommonResponse deleteCustomerInfo(String token, String password) {
-        Customer customer = customerRepository.getByUid(tokenProvider.getUid(token));
+    public CommonResponse deleteCustomerInfo(JwtPrincipal principal, String password) {
+        String uid = principal.getUid();
+        Customer customer = customerRepository.getByUid(uid);
 
         passwordMatch(password, customer.getPassword());
 
         customerRepository.delete(customer);
+        principalCache.invalidate(uid);
         return CommonResponse.SUCCESS;
     }
 
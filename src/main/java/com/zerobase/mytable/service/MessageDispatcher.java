@@ -0,0 +1,157 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.MessageOutbox;
+import com.zerobase.mytable.event.MessageEnqueuedEvent;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.MessageOutboxRepository;
+import com.zerobase.mytable.type.MessageStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.message.model.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageDispatcher {
+
+    // 발송 요청의 문자와 outbox 행을 연결하는 사용자 정의 필드
+    static final String OUTBOX_ID_FIELD = "outboxId";
+
+    // 대기 중인 문자와 선점 후 만료된(발송 중 인스턴스 종료 등) 문자를 발송 대상으로 선점
+    private static final List<MessageStatus> CLAIMABLE_STATUSES =
+            List.of(MessageStatus.PENDING, MessageStatus.SENDING);
+
+    private final MessageOutboxRepository messageOutboxRepository;
+    private final SendMessageService sendMessageService;
+
+    // 한 인스턴스 안에서는 디스패치를 한 번에 하나만 실행
+    // 인스턴스 간 중복 발송은 DB 선점(claim)으로 방지
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    @Value("${message.dispatch.batch-size}")
+    private int batchSize;
+
+    @Value("${message.dispatch.max-retries}")
+    private int maxRetries;
+
+    @Value("${message.dispatch.backoff-seconds}")
+    private long backoffSeconds;
+
+    @Value("${message.dispatch.claim-timeout-seconds}")
+    private long claimTimeoutSeconds;
+
+    // 예약 트랜잭션 커밋 직후 요청 스레드와 분리하여 발송
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageEnqueued(MessageEnqueuedEvent event) {
+        dispatchPending();
+    }
+
+    // 커밋 직후 발송하지 못했거나 재시도 대기 중인 문자 주기적으로 발송
+    @Scheduled(fixedDelayString = "${schedules.fixed-delay.message-dispatch}")
+    public void dispatchPending() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+
+        try {
+            List<MessageOutbox> batch;
+            do {
+                batch = claim();
+                if (!batch.isEmpty()) {
+                    dispatch(batch);
+                }
+            } while (batch.size() == batchSize);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    // 발송할 문자를 SENDING으로 변경하여 선점하고, 이번 디스패치가 선점한 문자만 조회
+    private List<MessageOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = messageOutboxRepository.findIdsToDispatch(
+                CLAIMABLE_STATUSES, now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        messageOutboxRepository.claim(ids, CLAIMABLE_STATUSES, MessageStatus.SENDING,
+                claimToken, now, now.plusSeconds(claimTimeoutSeconds));
+        return messageOutboxRepository.findAllByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    // 한 번의 요청으로 묶어서 발송하고, 접수되지 않은 문자만 지수 백오프로 재시도
+    // 요청 자체가 실패한 경우(전체 실패) 배치 전체 재시도
+    private void dispatch(List<MessageOutbox> batch) {
+        List<Message> messages = new ArrayList<>();
+        Map<Message, MessageOutbox> outboxByMessage = new IdentityHashMap<>();
+        for (MessageOutbox outbox : batch) {
+            Message message = createMessage(outbox);
+            messages.add(message);
+            outboxByMessage.put(message, outbox);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            Set<MessageOutbox> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+            sendMessageService.sendManyMessages(messages)
+                    .forEach(message -> failed.add(outboxByMessage.get(message)));
+            if (!failed.isEmpty()) {
+                log.warn("{} of {} messages were not accepted, scheduling retry.",
+                        failed.size(), batch.size());
+            }
+
+            batch.forEach(outbox -> {
+                if (failed.contains(outbox)) {
+                    scheduleRetry(outbox, now);
+                } else {
+                    outbox.setStatus(MessageStatus.SENT);
+                }
+            });
+        } catch (CustomException e) {
+            log.warn("{} messages failed to send, scheduling retry.", batch.size());
+            batch.forEach(outbox -> scheduleRetry(outbox, now));
+        }
+
+        messageOutboxRepository.saveAll(batch);
+    }
+
+    // 같은 번호로 가는 여러 문자의 발송 결과를 구분할 수 있도록 outbox id를 사용자 정의 필드로 전달
+    private Message createMessage(MessageOutbox outbox) {
+        Message message = sendMessageService.createMessage(
+                outbox.getPhone(), outbox.getText());
+
+        Map<String, String> customFields = new HashMap<>();
+        customFields.put(OUTBOX_ID_FIELD, String.valueOf(outbox.getId()));
+        message.setCustomFields(customFields);
+        return message;
+    }
+
+    private void scheduleRetry(MessageOutbox outbox, LocalDateTime now) {
+        int retryCount = outbox.getRetryCount() + 1;
+        outbox.setRetryCount(retryCount);
+
+        if (retryCount >= maxRetries) {
+            outbox.setStatus(MessageStatus.FAILED);
+            return;
+        }
+
+        long delaySeconds = backoffSeconds * (1L << (retryCount - 1));
+        outbox.setStatus(MessageStatus.PENDING);
+        outbox.setNextAttemptAt(now.plusSeconds(delaySeconds));
+    }
+}
@@ -0,0 +1,37 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.MessageOutbox;
+import com.zerobase.mytable.event.MessageEnqueuedEvent;
+import com.zerobase.mytable.repository.MessageOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MessageOutboxService {
+
+    private final MessageOutboxRepository messageOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 발송할 문자를 호출한 트랜잭션 안에서 outbox에 저장
+    // 실제 발송은 커밋 이후 MessageDispatcher가 처리
+    @Transactional
+    public void enqueue(String phone, String text) {
+        messageOutboxRepository.save(MessageOutbox.from(phone, text));
+        eventPublisher.publishEvent(new MessageEnqueuedEvent());
+    }
+
+    // 여러 문자를 한 번에 outbox에 저장하고 발송 트리거는 한 번만 발행
+    @Transactional
+    public void enqueueAll(List<MessageOutbox> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        messageOutboxRepository.saveAll(messages);
+        eventPublisher.publishEvent(new MessageEnqueuedEvent());
+    }
+}
@@ -0,0 +1,111 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.repository.ReservationRepository;
+import com.zerobase.mytable.type.ReservationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 도착 확인되지 않은 확정 예약을 NO_SHOW로 일괄 변경
+// chunk 단위로 id 조회 후 bulk update 하고, chunk 마다 트랜잭션을 커밋하여 긴 트랜잭션과 대량 엔티티 로딩을 피함
+// 여러 인스턴스 중 DB 잠금을 획득한 인스턴스만 실행
+@Component
+@Slf4j
+public class NoShowSweeper {
+
+    private static final String LOCK_NAME = "reservation-no-show-sweep";
+
+    private final ReservationRepository reservationRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration lockAtMostFor;
+
+    private final Counter sweptCounter;
+    private final Counter chunkCounter;
+    private final Counter skippedCounter;
+    private final Timer sweepTimer;
+
+    public NoShowSweeper(ReservationRepository reservationRepository,
+                         SchedulerLockService schedulerLockService,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${reservation.no-show.chunk-size}") int chunkSize,
+                         @Value("${reservation.no-show.lock-at-most-seconds}") long lockAtMostSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.lockAtMostFor = Duration.ofSeconds(lockAtMostSeconds);
+
+        this.sweptCounter = Counter.builder("reservation.no-show.swept")
+                .description("NO_SHOW로 변경된 예약 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("reservation.no-show.chunks")
+                .description("커밋된 NO_SHOW 변경 chunk 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("reservation.no-show.skipped")
+                .description("다른 인스턴스가 잠금을 보유하여 건너뛴 실행 수")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("reservation.no-show.sweep")
+                .description("NO_SHOW 일괄 변경 소요 시간")
+                .register(meterRegistry);
+    }
+
+    // 기준 시간 이전의 확정 예약을 NO_SHOW로 변경하고 변경 건수 반환
+    public int sweep(LocalDateTime before) {
+        if (!schedulerLockService.tryLock(LOCK_NAME, lockAtMostFor)) {
+            skippedCounter.increment();
+            log.info("no-show sweep skipped : lock held by another instance");
+            return 0;
+        }
+
+        try {
+            return sweepTimer.record(() -> sweepChunks(before));
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int sweepChunks(LocalDateTime before) {
+        int total = 0;
+        int chunks = 0;
+
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<Long> ids = reservationRepository.findIdsByStatusAndDateTimeBefore(
+                        ReservationStatus.CONFIRM, before, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    return -1;
+                }
+                return reservationRepository.updateStatusByIdIn(ids,
+                        ReservationStatus.CONFIRM, ReservationStatus.NO_SHOW,
+                        LocalDateTime.now());
+            });
+
+            if (updated == null || updated < 0) {
+                break;
+            }
+
+            total += updated;
+            chunks++;
+            sweptCounter.increment(updated);
+            chunkCounter.increment();
+            log.debug("no-show sweep progress : chunk={}, updated={}, total={}",
+                    chunks, updated, total);
+        }
+
+        log.info("no-show sweep finished : chunks={}, total={}", chunks, total);
+        return total;
+    }
+}
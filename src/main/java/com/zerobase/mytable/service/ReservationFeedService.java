@@ -0,0 +1,158 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.event.ReservationChangedEvent;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 파트너 점포 별 실시간 예약 피드(SSE)
+// 예약 변경은 커밋 이후 전용 스레드 풀에서 전송하여 요청 스레드를 막지 않고,
+// 노드 당 전체 연결 수와 점포 당 연결 수를 제한
+@Service
+@Slf4j
+public class ReservationFeedService {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService executor;
+    private final Counter droppedEvents;
+    private final int maxConnections;
+    private final int maxConnectionsPerStore;
+    private final long timeoutMillis;
+
+    public ReservationFeedService(
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${reservation.feed.max-connections}") int maxConnections,
+            @Value("${reservation.feed.max-connections-per-store}") int maxConnectionsPerStore,
+            @Value("${reservation.feed.timeout-ms}") long timeoutMillis,
+            @Value("${reservation.feed.send-threads}") int sendThreads,
+            @Value("${reservation.feed.queue-capacity}") int queueCapacity) {
+        this.eventPublisher = eventPublisher;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerStore = maxConnectionsPerStore;
+        this.timeoutMillis = timeoutMillis;
+
+        this.droppedEvents = meterRegistry.counter("reservation.feed.dropped");
+        meterRegistry.gauge("reservation.feed.connections", connections);
+
+        // 전송 대기열이 가득 차면 이벤트를 버림(파트너는 목록 재조회로 복구 가능)
+        this.executor = new ThreadPoolExecutor(sendThreads, sendThreads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                (task, pool) -> {
+                    droppedEvents.increment();
+                    log.warn("Reservation feed queue is full, event dropped.");
+                });
+    }
+
+    // 점포 예약 피드 구독(점주 확인은 호출하는 쪽에서 처리)
+    public SseEmitter subscribe(Long storeId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new CustomException(ErrorCode.TOO_MANY_FEED_CONNECTIONS);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        try {
+            // 점포 당 연결 수 확인과 추가를 원자적으로 처리(예외 시 기존 연결 목록 유지)
+            emitters.compute(storeId, (id, storeEmitters) -> {
+                Set<SseEmitter> current = storeEmitters != null
+                        ? storeEmitters : ConcurrentHashMap.newKeySet();
+                if (current.size() >= maxConnectionsPerStore) {
+                    throw new CustomException(ErrorCode.TOO_MANY_FEED_CONNECTIONS);
+                }
+                current.add(emitter);
+                return current;
+            });
+        } catch (CustomException e) {
+            connections.decrementAndGet();
+            throw e;
+        }
+
+        emitter.onCompletion(() -> remove(storeId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+
+        // 연결 직후 응답 헤더를 내보내기 위해 연결 이벤트 전송
+        send(emitter, SseEmitter.event().name("connected").data(storeId));
+        return emitter;
+    }
+
+    // 예약 변경 발행(호출한 트랜잭션 안에서 응답 데이터를 만들고, 전송은 커밋 이후)
+    public void publish(Reservation reservation, ReservationEventType type) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+                reservation.getStore().getId(), type, ReservationDto.from(reservation)));
+    }
+
+    // 커밋된 예약 변경만 전송(트랜잭션 밖에서 발행된 경우 바로 전송)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT,
+            fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Set<SseEmitter> storeEmitters = emitters.get(event.getStoreId());
+        if (storeEmitters == null || storeEmitters.isEmpty()) {
+            return;
+        }
+
+        executor.execute(() -> storeEmitters.forEach(emitter -> send(emitter,
+                SseEmitter.event()
+                        .name(event.getType().getEventName())
+                        .data(event.getReservation()))));
+    }
+
+    // 프록시, 로드밸런서의 유휴 연결 종료를 막고 끊어진 연결 정리
+    @Scheduled(fixedDelayString = "${reservation.feed.heartbeat-ms}")
+    public void heartbeat() {
+        if (connections.get() == 0) {
+            return;
+        }
+
+        executor.execute(() -> emitters.values().forEach(storeEmitters ->
+                storeEmitters.forEach(emitter ->
+                        send(emitter, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(storeEmitters ->
+                storeEmitters.forEach(SseEmitter::complete));
+        executor.shutdown();
+    }
+
+    // 전송 실패한 연결은 종료(onCompletion에서 목록 제거)
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long storeId, SseEmitter emitter) {
+        emitters.computeIfPresent(storeId, (id, storeEmitters) -> {
+            if (storeEmitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return storeEmitters.isEmpty() ? null : storeEmitters;
+        });
+    }
+}
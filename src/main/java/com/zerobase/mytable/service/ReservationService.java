@@ -1,32 +1,49 @@
 package com.zerobase.mytable.service;
 
 import com.zerobase.mytable.domain.Customer;
+import com.zerobase.mytable.domain.MessageOutbox;
 import com.zerobase.mytable.domain.Reservation;
 import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.domain.restaurant.RestaurantReservation;
+import com.zerobase.mytable.dto.CursorPageDto;
 import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.dto.restaurant.RestaurantReservationDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.CustomerRepository;
 import com.zerobase.mytable.repository.ReservationRepository;
+import com.zerobase.mytable.repository.RestaurantReservationRepository;
 import com.zerobase.mytable.repository.StoreRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationCursor;
+import com.zerobase.mytable.type.ReservationEventType;
 import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.ReservationUid;
+import com.zerobase.mytable.type.Table;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,116 +51,198 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReservationService {
 
+    // 커서 기반 조회 한 번에 조회할 수 있는 최대 예약 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final CustomerRepository customerRepository;
-    private final TokenProvider tokenProvider;
-    private final SendMessageService sendMessageService;
+    private final MessageOutboxService messageOutboxService;
+    private final RestaurantReservationRepository restaurantReservationRepository;
+    private final RestaurantCapacityManager restaurantCapacityManager;
+    private final NoShowSweeper noShowSweeper;
+    private final ReservationFeedService reservationFeedService;
 
     // 예약 요청
     @Transactional
-    public CommonResponse makeReservation(String token, ReservationDto request) {
+    public CommonResponse makeReservation(JwtPrincipal principal, ReservationDto request) {
         Store store = storeRepository.findByStorename(request.getStorename())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
-        if (!LocalDate.now().plusMonths(1).isAfter(request.getDate())) {
-            throw new CustomException(ErrorCode.RESERVATION_DATE_MUST_BE_IN_A_MONTH);
-        }
+        validateReservationDate(request.getDate());
 
-        Customer customer = customerRepository.getByUid(tokenProvider.getUid(token));
-        Reservation savedReservation = reservationRepository.save(
-                Reservation.from(request, customer, store));
+        Customer customer = customerRepository.getByUid(principal.getUid());
+        Reservation savedReservation = saveReservation(
+                reservationRepository, Reservation.from(request, customer, store));
 
         if (!savedReservation.getUnderName().isEmpty()) {
             sendReservationMessageToPartner(savedReservation);
+            reservationFeedService.publish(savedReservation, ReservationEventType.CREATED);
             return CommonResponse.SUCCESS;
         } else {
             return CommonResponse.FAIL;
         }
     }
 
+    // 식당 테이블 예약 요청
+    // 메모리 재고에서 테이블 선점 후 저장하고, 다른 트랜잭션의 커밋된 예약까지 포함해 재검증
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CommonResponse makeRestaurantReservation(JwtPrincipal principal,
+                                                    RestaurantReservationDto request) {
+        Store store = storeRepository.findByStorename(request.getStorename())
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+
+        if (!(store instanceof Restaurant)) {
+            throw new CustomException(ErrorCode.NOT_RESTAURANT);
+        }
+        Restaurant restaurant = (Restaurant) store;
+
+        validateReservationDate(request.getDate());
+
+        Customer customer = customerRepository.getByUid(principal.getUid());
+        LocalDateTime dateTime = LocalDateTime.of(request.getDate(), request.getTime());
+
+        Table table = restaurantCapacityManager.reserve(
+                restaurant, dateTime, request.getNumberOfPeople());
+        RestaurantReservation savedReservation = saveReservation(
+                restaurantReservationRepository,
+                RestaurantReservation.from(request, customer, restaurant, table));
+        restaurantCapacityManager.verify(restaurant, table, dateTime);
+
+        sendReservationMessageToPartner(savedReservation);
+        reservationFeedService.publish(savedReservation, ReservationEventType.CREATED);
+        return CommonResponse.SUCCESS;
+    }
+
     // 고객이 예약한 예약 리스트 조회
     public Page<ReservationDto> customerGetMyReservations(
-            String token, PageRequest pageRequest) {
-        Customer customer = customerRepository.getByUid(tokenProvider.getUid(token));
+            JwtPrincipal principal, PageRequest pageRequest) {
+        Customer customer = customerRepository.getByUid(principal.getUid());
 
-        List<ReservationDto> reservationDtos =
-                customer.getReservations().stream()
-                        .sorted(Comparator.comparing(Reservation::getDateTime))
-                        .map(ReservationDto::from)
-                        .collect(Collectors.toList());
+        return reservationRepository.findViewsByCustomer(customer, pageRequest)
+                .map(ReservationDto::from);
+    }
+
+    // 고객이 예약한 예약 리스트 커서 기반 조회
+    // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회
+    public CursorPageDto<ReservationDto> customerGetMyReservationsByCursor(
+            JwtPrincipal principal, String after, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
 
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), reservationDtos.size());
+        Customer customer = customerRepository.getByUid(principal.getUid());
+        Pageable limit = PageRequest.of(0, size + 1);
 
-        return new PageImpl<>(
-                reservationDtos.subList(start, end),
-                pageRequest,
-                reservationDtos.size());
+        List<ReservationRepository.ReservationView> reservations;
+        if (after == null || after.isEmpty()) {
+            reservations = reservationRepository
+                    .findViewsByCustomerOrderByDateTimeAscIdAsc(customer, limit);
+        } else {
+            ReservationCursor cursor = ReservationCursor.decode(after);
+            reservations = reservationRepository.findViewsByCustomerAfterCursor(
+                    customer, cursor.getDateTime(), cursor.getId(), limit);
+        }
+
+        boolean hasNext = reservations.size() > size;
+        if (hasNext) {
+            reservations = reservations.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+                ? ReservationCursor.from(reservations.get(size - 1)).encode()
+                : null;
+
+        return new CursorPageDto<>(
+                reservations.stream()
+                        .map(ReservationDto::from)
+                        .collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
     }
 
     // 고객 예약 상세정보 조회
-    public ReservationDto customerGetReservation(String token, String reservationUid) {
+    // 복제 DB에 아직 반영되지 않은 방금 생성된 예약은 원본 DB에서 다시 조회
+    @Transactional(readOnly = true)
+    public ReservationDto customerGetReservation(JwtPrincipal principal, String reservationUid) {
+        Reservation reservation = reservationRepository.findByUid(reservationUid)
+                .or(() -> reservationRepository
+                        .findWithStoreAndCustomerByUidOnPrimary(reservationUid))
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
 
-        Reservation reservation = getReservationAndValidateCustomer(
-                token, reservationUid);
+        validateCustomer(principal, reservation);
 
         return ReservationDto.from(reservation);
     }
 
     // 고객 예약 수정
-    @Transactional
-    public ReservationDto updateReservation(String token, String reservationUid,
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ReservationDto updateReservation(JwtPrincipal principal, String reservationUid,
                                             ReservationDto request) {
         Reservation reservation = getReservationAndValidateCustomer(
-                token, reservationUid);
+                principal, reservationUid);
 
         if (!reservation.getStore().getStorename().equals(request.getStorename())) {
             throw new CustomException(ErrorCode.CANNOT_UPDATE_STORE);
         }
 
-        reservation.setDateTime(LocalDateTime.of(request.getDate(), request.getTime()));
+        LocalDateTime dateTime = LocalDateTime.of(request.getDate(), request.getTime());
+        if (reservation instanceof RestaurantReservation) {
+            moveRestaurantTable((RestaurantReservation) reservation, dateTime);
+        }
+
+        reservation.setDateTime(dateTime);
         reservation.setUnderName(request.getUnderName());
         reservation.setPhone(request.getPhone());
         reservation.setSpecialInstruction(request.getSpecialInstruction());
         reservation.setStatus(ReservationStatus.WAITING);
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        if (savedReservation instanceof RestaurantReservation) {
+            restaurantCapacityManager.verify(
+                    (Restaurant) Hibernate.unproxy(savedReservation.getStore()),
+                    ((RestaurantReservation) savedReservation).getTable(), dateTime);
+        }
         sendReservationMessageToPartner(savedReservation);
+        reservationFeedService.publish(savedReservation, ReservationEventType.UPDATED);
 
         return ReservationDto.from(savedReservation);
     }
 
     // 고객 예약 취소
     @Transactional
-    public ReservationDto cancelReservation(String token, String reservationUid) {
+    public ReservationDto cancelReservation(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = getReservationAndValidateCustomer(
-                token, reservationUid);
+                principal, reservationUid);
 
+        releaseRestaurantTable(reservation);
         reservation.setStatus(ReservationStatus.CANCEL);
         sendReservationMessageToPartner(reservation);
+        reservationFeedService.publish(reservation, ReservationEventType.CANCELLED);
 
         return ReservationDto.from(reservationRepository.save(reservation));
     }
 
     // 파트너 예약 상세정보 조회
-    public ReservationDto partnerGetReservation(String token, String reservationUid) {
+    @Transactional(readOnly = true)
+    public ReservationDto partnerGetReservation(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = getReservationAndValidatePartner(
-                token, reservationUid);
+                principal, reservationUid);
 
         return ReservationDto.from(reservation);
     }
 
     // 파트너 예약 승인
     @Transactional
-    public ReservationDto partnerReservationConfirm(String token, String reservationUid) {
+    public ReservationDto partnerReservationConfirm(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = getReservationAndValidatePartner(
-                token, reservationUid);
+                principal, reservationUid);
 
         reservation.setStatus(ReservationStatus.CONFIRM);
         Reservation savedReservation = reservationRepository.save(reservation);
 
         sendReservationMessageToCustomer(savedReservation);
+        reservationFeedService.publish(savedReservation, ReservationEventType.CONFIRMED);
 
         return ReservationDto.from(savedReservation);
     }
@@ -151,30 +250,151 @@ public class ReservationService {
 
     // 파트너 예약 거절
     @Transactional
-    public ReservationDto partnerReservationReject(String token, String reservationUid) {
+    public ReservationDto partnerReservationReject(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = getReservationAndValidatePartner(
-                token, reservationUid);
+                principal, reservationUid);
 
+        releaseRestaurantTable(reservation);
         reservation.setStatus(ReservationStatus.DENIED);
         Reservation savedReservation = reservationRepository.save(reservation);
 
         sendReservationMessageToCustomer(savedReservation);
+        reservationFeedService.publish(savedReservation, ReservationEventType.REJECTED);
 
         return ReservationDto.from(savedReservation);
     }
 
-    // 매일 00시 05분에 예약 상태 confirm인 건(도착확인 안 된 건)들 NO_SHOW로 변경
+    // 파트너 예약 일괄 승인
     @Transactional
+    public List<ReservationDto> partnerReservationBulkConfirm(JwtPrincipal principal,
+                                                              List<String> reservationUids) {
+        return changeWaitingReservations(principal, reservationUids,
+                ReservationStatus.CONFIRM, ReservationEventType.CONFIRMED);
+    }
+
+    // 파트너 예약 일괄 거절
+    @Transactional
+    public List<ReservationDto> partnerReservationBulkReject(JwtPrincipal principal,
+                                                             List<String> reservationUids) {
+        return changeWaitingReservations(principal, reservationUids,
+                ReservationStatus.DENIED, ReservationEventType.REJECTED);
+    }
+
+    // 매일 00시 05분에 예약 상태 confirm인 건(도착확인 안 된 건)들 NO_SHOW로 변경
+    // chunk 단위 일괄 변경은 NoShowSweeper에서 처리
     @Scheduled(cron = "${schedules.cron.check.no-show}")
     public void checkReservationNoShow() {
         LocalDate yesterday = LocalDate.now().minusDays(1);
-        List<Reservation> reservations =
-                reservationRepository.findAllByStatusAndDateTimeBefore(
-                        ReservationStatus.CONFIRM, yesterday.atTime(LocalTime.MAX));
+        noShowSweeper.sweep(yesterday.atTime(LocalTime.MAX));
+    }
+
+    // 대기 중인 예약들을 한 번에 조회하여 점주 확인 후 상태 일괄 변경
+    // 고객 문자는 outbox에 한 번에 저장하고, 하나라도 처리할 수 없으면 전체 롤백
+    private List<ReservationDto> changeWaitingReservations(JwtPrincipal principal,
+                                                           List<String> reservationUids,
+                                                           ReservationStatus status,
+                                                           ReservationEventType eventType) {
+        // 조회된 예약의 uid는 소문자 hex이므로 요청 uid도 같은 형식으로 맞춘 후 조회, 대조
+        Set<String> uids = reservationUids.stream()
+                .map(ReservationUid::normalize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Reservation> reservationsByUid = reservationRepository
+                .findAllWithStoreByUidIn(uids).stream()
+                .collect(Collectors.toMap(Reservation::getUid, Function.identity()));
+
+        if (reservationsByUid.size() != uids.size()) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_FOUND);
+        }
 
+        // 요청한 순서대로 처리
+        List<Reservation> reservations = uids.stream()
+                .map(reservationsByUid::get)
+                .collect(Collectors.toList());
         for (Reservation reservation : reservations) {
-            reservation.setStatus(ReservationStatus.NO_SHOW);
-            reservationRepository.save(reservation);
+            if (!reservation.getStore().getPartner().getUid().equals(principal.getUid())) {
+                throw new CustomException(ErrorCode.ACCESS_ONLY_STORE_OWNER);
+            }
+            if (reservation.getStatus() != ReservationStatus.WAITING) {
+                throw new CustomException(ErrorCode.RESERVATION_NOT_WAITING);
+            }
+        }
+
+        if (status == ReservationStatus.DENIED) {
+            reservations.forEach(this::releaseRestaurantTable);
+        }
+
+        // 조회 이후 다른 요청이 상태를 먼저 바꾼 예약이 있으면 변경 건수가 달라짐
+        // 동시에 처리되는 일괄 변경끼리 같은 순서로 행을 잠그도록 id 순으로 변경
+        int updated = reservationRepository.updateStatusByIdIn(
+                reservations.stream()
+                        .map(Reservation::getId)
+                        .sorted()
+                        .collect(Collectors.toList()),
+                ReservationStatus.WAITING, status, LocalDateTime.now());
+        if (updated != reservations.size()) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_WAITING);
+        }
+
+        // 일괄 변경 후 영속성 컨텍스트가 비워지므로 조회한 엔티티는 응답, 문자 생성에만 사용
+        reservations.forEach(reservation -> reservation.setStatus(status));
+
+        messageOutboxService.enqueueAll(reservations.stream()
+                .map(reservation -> MessageOutbox.from(
+                        reservation.getPhone(), customerMessageText(reservation)))
+                .collect(Collectors.toList()));
+        reservations.forEach(reservation ->
+                reservationFeedService.publish(reservation, eventType));
+
+        return reservations.stream()
+                .map(ReservationDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private void validateReservationDate(LocalDate date) {
+        if (!LocalDate.now().plusMonths(1).isAfter(date)) {
+            throw new CustomException(ErrorCode.RESERVATION_DATE_MUST_BE_IN_A_MONTH);
+        }
+    }
+
+    // 식당 예약 시간 변경 시 새 시간의 테이블을 선점하고 기존 테이블은 커밋 이후 반환
+    // 취소, 거절된 예약을 수정하는 경우 반환할 테이블 없이 새로 선점
+    private void moveRestaurantTable(RestaurantReservation reservation,
+                                     LocalDateTime dateTime) {
+        boolean occupying = RestaurantCapacityManager.OCCUPYING_STATUSES
+                .contains(reservation.getStatus());
+        if (occupying && reservation.getDateTime().equals(dateTime)) {
+            return;
+        }
+
+        Table table = restaurantCapacityManager.reserve(
+                (Restaurant) Hibernate.unproxy(reservation.getStore()), dateTime,
+                reservation.getNumberOfPeople());
+        if (occupying) {
+            restaurantCapacityManager.release(reservation);
+        }
+        reservation.setTable(table);
+    }
+
+    // 식당 예약이 테이블을 점유 중인 경우 커밋 이후 테이블 반환
+    private void releaseRestaurantTable(Reservation reservation) {
+        if (reservation instanceof RestaurantReservation
+                && RestaurantCapacityManager.OCCUPYING_STATUSES
+                .contains(reservation.getStatus())) {
+            restaurantCapacityManager.release((RestaurantReservation) reservation);
+        }
+    }
+
+    // 다른 인스턴스에서 삭제된 점포가 이 인스턴스의 2차 캐시에 남아 있으면 예약 저장 시 외래 키 위반 발생
+    // 예약 고객은 인증된 회원이므로 저장 실패는 점포 삭제로 보고, 캐시에서 점포를 제거한 후 점포 없음으로 처리
+    private <T extends Reservation> T saveReservation(JpaRepository<T, Long> repository,
+                                                      T reservation) {
+        try {
+            return repository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("reservation store is deleted : storeId={}",
+                    reservation.getStore().getId());
+            storeRepository.evictFromCache(reservation.getStore());
+            throw new CustomException(ErrorCode.NOT_FOUND_STORE);
         }
     }
 
@@ -184,7 +404,7 @@ public class ReservationService {
     }
 
 
-    // 예약 요청 문자 발송 메서드
+    // 예약 요청 문자 발송 메서드(outbox에 저장 후 커밋 이후 발송)
     private void sendReservationMessageToPartner(Reservation reservation) {
         String text = String.format("%s에 예약이 접수(수정/취소)되었습니다.\n" +
                         "- 예약일자 : %s\n" +
@@ -197,14 +417,19 @@ public class ReservationService {
                 reservation.getUnderName(),
                 reservation.getUid());
 
-        sendMessageService.sendOneMessage(
+        messageOutboxService.enqueue(
                 reservation.getStore().getPartner().getPhone(),
                 text);
     }
 
-    // 예약 확정 및 거절 문자 발송 메서드
+    // 예약 확정 및 거절 문자 발송 메서드(outbox에 저장 후 커밋 이후 발송)
     private void sendReservationMessageToCustomer(Reservation reservation) {
-        String text = String.format("%s에 예약이 %s되었습니다.\n" +
+        messageOutboxService.enqueue(reservation.getPhone(), customerMessageText(reservation));
+    }
+
+    // 예약 확정 및 거절 문자 내용
+    private String customerMessageText(Reservation reservation) {
+        return String.format("%s에 예약이 %s되었습니다.\n" +
                         "- 예약일자 : %s\n" +
                         "- 예약자명 : %s\n" +
                         "예약 상세내용 바로가기\n" +
@@ -215,25 +440,27 @@ public class ReservationService {
                         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
                 reservation.getUnderName(),
                 reservation.getUid());
-
-        sendMessageService.sendOneMessage(reservation.getPhone(), text);
     }
 
-    private Reservation getReservationAndValidateCustomer(String token, String reservationUid) {
+    private Reservation getReservationAndValidateCustomer(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = getReservation(reservationUid);
 
-        if (!reservation.getCustomer().getUid().equals(tokenProvider.getUid(token))) {
-            throw new CustomException(ErrorCode.ACCESS_ONLY_REQUESTED_CUSTOMER);
-        }
+        validateCustomer(principal, reservation);
 
         return reservation;
     }
 
-    private Reservation getReservationAndValidatePartner(String token, String reservationUid) {
+    private void validateCustomer(JwtPrincipal principal, Reservation reservation) {
+        if (!reservation.getCustomer().getUid().equals(principal.getUid())) {
+            throw new CustomException(ErrorCode.ACCESS_ONLY_REQUESTED_CUSTOMER);
+        }
+    }
+
+    private Reservation getReservationAndValidatePartner(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = getReservation(reservationUid);
 
         if (!reservation.getStore().getPartner().getUid().equals(
-                tokenProvider.getUid(token))) {
+                principal.getUid())) {
             throw new CustomException(ErrorCode.ACCESS_ONLY_STORE_OWNER);
         }
 
@@ -0,0 +1,329 @@
+package com.zerobase.mytable.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.domain.restaurant.RestaurantReservation;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.RestaurantReservationRepository;
+import com.zerobase.mytable.repository.StoreRepository;
+import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.Table;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// 식당 테이블 예약 재고 관리
+// 점포, 날짜 별로 테이블 크기 x 시간 슬롯의 사용 테이블 수를 메모리에 유지하여 예약 가능 여부를 바로 판단
+// 메모리 재고는 빠른 선점용이고, 최종 판단은 점포 행 잠금 후 DB 재집계(verify)로 처리
+@Component
+@Slf4j
+public class RestaurantCapacityManager {
+
+    // 테이블을 점유하는 예약 상태
+    public static final List<ReservationStatus> OCCUPYING_STATUSES = List.of(
+            ReservationStatus.WAITING,
+            ReservationStatus.CONFIRM,
+            ReservationStatus.ARRIVED);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final RestaurantReservationRepository restaurantReservationRepository;
+    private final StoreRepository storeRepository;
+    private final Cache<String, DayInventory> inventories;
+    private final int slotMinutes;
+    private final int diningSlots;
+
+    public RestaurantCapacityManager(
+            RestaurantReservationRepository restaurantReservationRepository,
+            StoreRepository storeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${restaurant.capacity.slot-minutes}") int slotMinutes,
+            @Value("${restaurant.capacity.dining-minutes}") int diningMinutes,
+            @Value("${restaurant.capacity.inventory-max-size}") long maxSize,
+            @Value("${restaurant.capacity.inventory-ttl-seconds}") long ttlSeconds) {
+        this.restaurantReservationRepository = restaurantReservationRepository;
+        this.storeRepository = storeRepository;
+        this.slotMinutes = slotMinutes;
+        this.diningSlots = Math.max(1, (diningMinutes + slotMinutes - 1) / slotMinutes);
+
+        // 다른 인스턴스에서 처리된 예약이 반영되도록 일정 시간 후 DB에서 다시 적재
+        this.inventories = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, inventories, "restaurant.inventory");
+    }
+
+    // 예약 인원을 수용할 수 있는 가장 작은 테이블 선점
+    // 트랜잭션이 커밋되지 않으면 선점한 테이블 반환
+    public Table reserve(Restaurant restaurant, LocalDateTime dateTime, int numberOfPeople) {
+        NavigableMap<Integer, Integer> tableAmounts = getTableAmounts(restaurant);
+        if (tableAmounts.ceilingKey(numberOfPeople) == null) {
+            throw new CustomException(ErrorCode.TOO_MANY_NUMBER_OF_PEOPLE);
+        }
+
+        DayInventory inventory = getInventory(restaurant, dateTime.toLocalDate(), tableAmounts);
+        int slot = toSlot(dateTime);
+
+        int tableVolume = inventory.tryReserve(numberOfPeople, slot, diningSlots);
+        if (tableVolume < 0) {
+            throw new CustomException(ErrorCode.NO_AVAILABLE_TABLE);
+        }
+
+        runOnRollback(() -> inventory.release(tableVolume, slot, diningSlots));
+
+        return new Table(tableVolume, 1);
+    }
+
+    // 여러 날짜의 재고를 호출한 스레드에서 적재(없으면 DB 조회)
+    // 반환된 Availability는 적재한 재고만 사용하므로 다른 스레드에서 DB 연결 없이 확인 가능
+    public Availability loadAvailability(Restaurant restaurant, Collection<LocalDate> dates) {
+        NavigableMap<Integer, Integer> tableAmounts = getTableAmounts(restaurant);
+        if (tableAmounts.isEmpty()) {
+            return (dateTime, numberOfPeople) -> false;
+        }
+
+        Map<LocalDate, DayInventory> inventoryByDate = new HashMap<>();
+        for (LocalDate date : dates) {
+            inventoryByDate.put(date, getInventory(restaurant, date, tableAmounts));
+        }
+
+        // 해당 시간에 인원을 수용할 수 있는 빈 테이블이 있는지 조회(선점하지 않음)
+        return (dateTime, numberOfPeople) -> {
+            DayInventory inventory = inventoryByDate.get(dateTime.toLocalDate());
+            return inventory != null
+                    && tableAmounts.ceilingKey(numberOfPeople) != null
+                    && inventory.canReserve(numberOfPeople, toSlot(dateTime), diningSlots);
+        };
+    }
+
+    // 저장된 예약 기준으로 해당 시간의 테이블 수 초과 여부 재검증
+    // 점포 행을 잠가 같은 점포의 검증을 직렬화하고, 초과 시 메모리 재고를 다시 적재하도록 무효화
+    public void verify(Restaurant restaurant, Table table, LocalDateTime dateTime) {
+        storeRepository.findByIdForUpdate(restaurant.getId());
+
+        LocalDate date = dateTime.toLocalDate();
+        List<LocalDateTime> reservedDateTimes =
+                restaurantReservationRepository.findDateTimesByTableVolume(
+                        restaurant,
+                        table.getTableVolume(),
+                        date.atStartOfDay(),
+                        date.plusDays(1).atStartOfDay(),
+                        OCCUPYING_STATUSES);
+
+        int[] used = new int[slotsPerDay()];
+        for (LocalDateTime reserved : reservedDateTimes) {
+            int start = toSlot(reserved);
+            for (int s = start; s < Math.min(start + diningSlots, used.length); s++) {
+                used[s]++;
+            }
+        }
+
+        int amount = getTableAmounts(restaurant).getOrDefault(table.getTableVolume(), 0);
+        int slot = toSlot(dateTime);
+        for (int s = slot; s < Math.min(slot + diningSlots, used.length); s++) {
+            if (used[s] > amount) {
+                inventories.invalidate(key(restaurant.getId(), date));
+                throw new CustomException(ErrorCode.NO_AVAILABLE_TABLE);
+            }
+        }
+    }
+
+    // 예약 취소, 거절, 시간 변경 시 점유하던 테이블 반환(커밋 이후 반영)
+    public void release(RestaurantReservation reservation) {
+        String key = key(reservation.getStore().getId(),
+                reservation.getDateTime().toLocalDate());
+        int tableVolume = reservation.getTable().getTableVolume();
+        int slot = toSlot(reservation.getDateTime());
+
+        runAfterCommit(() -> {
+            DayInventory inventory = inventories.getIfPresent(key);
+            if (inventory != null) {
+                inventory.release(tableVolume, slot, diningSlots);
+            }
+        });
+    }
+
+    private DayInventory getInventory(Restaurant restaurant, LocalDate date,
+                                      NavigableMap<Integer, Integer> tableAmounts) {
+        return inventories.get(key(restaurant.getId(), date),
+                k -> load(restaurant, date, tableAmounts));
+    }
+
+    // 하루치 예약을 테이블 크기, 예약 시간 별 건수로 한 번에 조회하여 재고 생성
+    private DayInventory load(Restaurant restaurant, LocalDate date,
+                              NavigableMap<Integer, Integer> tableAmounts) {
+        DayInventory inventory = new DayInventory(tableAmounts, slotsPerDay());
+
+        List<RestaurantReservationRepository.SlotUsage> usages =
+                restaurantReservationRepository.countByTableVolumeAndDateTime(
+                        restaurant,
+                        date.atStartOfDay(),
+                        date.plusDays(1).atStartOfDay(),
+                        OCCUPYING_STATUSES);
+        for (RestaurantReservationRepository.SlotUsage usage : usages) {
+            inventory.occupy(usage.getTableVolume(), toSlot(usage.getDateTime()),
+                    diningSlots, usage.getReservationCount().intValue());
+        }
+
+        log.debug("restaurant inventory loaded : store={}, date={}",
+                restaurant.getId(), date);
+        return inventory;
+    }
+
+    private static NavigableMap<Integer, Integer> getTableAmounts(Restaurant restaurant) {
+        NavigableMap<Integer, Integer> tableAmounts = new TreeMap<>();
+        if (restaurant.getTables() != null) {
+            for (Table table : restaurant.getTables()) {
+                tableAmounts.merge(table.getTableVolume(), table.getTableAmount(), Integer::sum);
+            }
+        }
+        return tableAmounts;
+    }
+
+    private int slotsPerDay() {
+        return MINUTES_PER_DAY / slotMinutes;
+    }
+
+    private int toSlot(LocalDateTime dateTime) {
+        return (dateTime.getHour() * 60 + dateTime.getMinute()) / slotMinutes;
+    }
+
+    private static String key(Long storeId, LocalDate date) {
+        return storeId + ":" + date;
+    }
+
+    private static void runOnRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            action.run();
+                        }
+                    }
+                });
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+
+    // 식당의 적재된 재고로 시간, 인원 별 예약 가능 여부 확인
+    @FunctionalInterface
+    public interface Availability {
+        boolean isAvailable(LocalDateTime dateTime, int numberOfPeople);
+    }
+
+    // 하루치 테이블 재고(테이블 크기 별 슬롯 사용 테이블 수)
+    // 예약은 시작 슬롯부터 식사 시간 슬롯 수만큼 테이블을 점유하며 자정 이후 슬롯은 계산하지 않음
+    static class DayInventory {
+
+        private final int[] volumes;
+        private final int[] amounts;
+        private final int[][] used;
+
+        DayInventory(NavigableMap<Integer, Integer> tableAmounts, int slotsPerDay) {
+            this.volumes = new int[tableAmounts.size()];
+            this.amounts = new int[tableAmounts.size()];
+            this.used = new int[tableAmounts.size()][slotsPerDay];
+
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : tableAmounts.entrySet()) {
+                volumes[i] = entry.getKey();
+                amounts[i] = entry.getValue();
+                i++;
+            }
+        }
+
+        // 인원을 수용하는 테이블 중 크기가 작은 순으로 빈 테이블 선점, 없으면 -1 반환
+        synchronized int tryReserve(int numberOfPeople, int slot, int slots) {
+            for (int i = 0; i < volumes.length; i++) {
+                if (volumes[i] < numberOfPeople || !isAvailable(i, slot, slots)) {
+                    continue;
+                }
+                add(i, slot, slots, 1);
+                return volumes[i];
+            }
+            return -1;
+        }
+
+        synchronized boolean canReserve(int numberOfPeople, int slot, int slots) {
+            for (int i = 0; i < volumes.length; i++) {
+                if (volumes[i] >= numberOfPeople && isAvailable(i, slot, slots)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void occupy(int tableVolume, int slot, int slots, int count) {
+            int i = indexOf(tableVolume);
+            if (i >= 0) {
+                add(i, slot, slots, count);
+            }
+        }
+
+        synchronized void release(int tableVolume, int slot, int slots) {
+            int i = indexOf(tableVolume);
+            if (i >= 0) {
+                add(i, slot, slots, -1);
+            }
+        }
+
+        private boolean isAvailable(int i, int slot, int slots) {
+            for (int s = slot; s < Math.min(slot + slots, used[i].length); s++) {
+                if (used[i][s] >= amounts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(int i, int slot, int slots, int count) {
+            for (int s = slot; s < Math.min(slot + slots, used[i].length); s++) {
+                used[i][s] = Math.max(0, used[i][s] + count);
+            }
+        }
+
+        private int indexOf(int tableVolume) {
+            for (int i = 0; i < volumes.length; i++) {
+                if (volumes[i] == tableVolume) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
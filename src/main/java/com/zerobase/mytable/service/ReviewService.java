@@ -1,14 +1,18 @@
 package com.zerobase.mytable.service;
 
 import com.zerobase.mytable.domain.*;
+import com.zerobase.mytable.dto.ContentVersion;
 import com.zerobase.mytable.dto.ReviewDto;
+import com.zerobase.mytable.dto.ReviewSummaryDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.CustomerRepository;
+import com.zerobase.mytable.repository.ReservationRepository;
 import com.zerobase.mytable.repository.ReviewRepository;
 import com.zerobase.mytable.repository.StoreRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationStatus;
 import com.zerobase.mytable.type.UserType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +22,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,53 +31,68 @@ import java.util.stream.Collectors;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
-    private final TokenProvider tokenProvider;
     private final CustomerRepository customerRepository;
     private final StoreRepository storeRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReviewSummaryService reviewSummaryService;
 
     // 고객 리뷰 작성
     @Transactional
-    public ReviewDto customerCreateReview(String token, ReviewDto request) {
+    public ReviewDto customerCreateReview(JwtPrincipal principal, ReviewDto request) {
         Customer customer = customerRepository.getByUid(
-                tokenProvider.getUid(token));
+                principal.getUid());
 
         Store store = storeRepository.findByStorename(request.getStorename())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
-        // 해당 점포에 예약한 이력 있는지 조회
-        List<Reservation> reservations = customer.getReservations().stream()
-                .filter(reservation -> reservation.getStore().equals(store))
-                .collect(Collectors.toList());
-        if (reservations.isEmpty()) {
+        // 해당 점포에 방문 완료한 예약이 있는지 조회
+        if (!reservationRepository.existsByCustomerAndStoreAndStatus(
+                customer, store, ReservationStatus.ARRIVED)) {
             throw new CustomException(ErrorCode.DID_NOT_USE_THIS_STORE);
         }
 
         Review savedReview = reviewRepository.save(
                 Review.from(request, customer, store));
+        reviewSummaryService.reviewCreated(savedReview);
 
         return ReviewDto.from(savedReview);
     }
 
     // 점포 별 리뷰 리스트 조회
+    @Transactional(readOnly = true)
     public Page<ReviewDto> getReviewsByStore(String storename, PageRequest pageRequest) {
         Store store = storeRepository.findByStorename(storename)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
-        List<ReviewDto> reviewDtos = store.getReviews().stream()
-                .sorted(Comparator.comparing(BaseEntity::getCreatedAt).reversed())
+        // 전체 리뷰 수는 리뷰 요약에서 조회하고, 리뷰는 요청한 페이지만 DB에서 조회
+        ReviewSummaryDto summary = reviewSummaryService.getSummary(store);
+
+        List<ReviewDto> reviewDtos = reviewRepository.findAllByStore(store,
+                        PageRequest.of(pageRequest.getPageNumber(),
+                                pageRequest.getPageSize(),
+                                ReviewSummaryService.LATEST))
+                .stream()
                 .map(ReviewDto::from)
                 .collect(Collectors.toList());
 
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), reviewDtos.size());
+        return new PageImpl<>(reviewDtos, pageRequest, summary.getReviewCount());
+    }
 
-        return new PageImpl<>(
-                reviewDtos.subList(start, end),
-                pageRequest,
-                reviewDtos.size());
+    // 점포 별 리뷰 리스트 응답 버전(리뷰 작성, 수정, 삭제 시 증가하는 리뷰 요약 revision)
+    // 요약 행이 없는 점포는 리뷰 변경 이력이 없으므로 revision 0
+    @Transactional(readOnly = true)
+    public ContentVersion getReviewsByStoreVersion(String storename) {
+        Store store = storeRepository.findByStorename(storename)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+        ReviewSummaryDto summary = reviewSummaryService.getSummary(store);
+
+        return ContentVersion.of(
+                "reviews-" + store.getId() + "-" + summary.getRevision(),
+                summary.getUpdatedAt());
     }
 
     // 리뷰 내용 상세조회
+    @Transactional(readOnly = true)
     public ReviewDto getReviewDetail(Long reviewId) {
         Review review = getReview(reviewId);
         return ReviewDto.from(review);
@@ -82,10 +100,10 @@ public class ReviewService {
 
     // 리뷰 수정
     @Transactional
-    public ReviewDto updateReview(String token, Long reviewId, ReviewDto request) {
+    public ReviewDto updateReview(JwtPrincipal principal, Long reviewId, ReviewDto request) {
         Review review = getReview(reviewId);
 
-        if (!review.getCustomer().getUid().equals(tokenProvider.getUid(token))) {
+        if (!review.getCustomer().getUid().equals(principal.getUid())) {
             throw new CustomException(ErrorCode.ONLY_WORKS_WITH_WRITER);
         }
 
@@ -96,27 +114,30 @@ public class ReviewService {
         review.setTitle(request.getTitle());
         review.setText(request.getText());
 
-        return ReviewDto.from(reviewRepository.save(review));
+        Review savedReview = reviewRepository.save(review);
+        reviewSummaryService.reviewUpdated(savedReview);
+
+        return ReviewDto.from(savedReview);
     }
 
     // 고객 리뷰 삭제
-    public CommonResponse deleteReview(String token, Long reviewId) {
+    @Transactional
+    public CommonResponse deleteReview(JwtPrincipal principal, Long reviewId) {
         Review review = getReview(reviewId);
 
-        if (tokenProvider.getRole(token).equals(
-                List.of(UserType.ROLE_CUSTOMER.toString()))) {
-            if (!review.getCustomer().getUid().equals(tokenProvider.getUid(token))) {
+        if (principal.hasRole(UserType.ROLE_CUSTOMER)) {
+            if (!review.getCustomer().getUid().equals(principal.getUid())) {
                 throw new CustomException(ErrorCode.ONLY_WORKS_WITH_WRITER);
             }
-        } else if(tokenProvider.getRole(token).equals(
-                List.of(UserType.ROLE_PARTNER.toString()))) {
+        } else if (principal.hasRole(UserType.ROLE_PARTNER)) {
             if (!review.getStore().getPartner().getUid().equals(
-                    tokenProvider.getUid(token))) {
+                    principal.getUid())) {
                 throw new CustomException(ErrorCode.ACCESS_ONLY_STORE_OWNER);
             }
         }
 
         reviewRepository.delete(review);
+        reviewSummaryService.reviewDeleted(review);
 
         return CommonResponse.SUCCESS;
     }
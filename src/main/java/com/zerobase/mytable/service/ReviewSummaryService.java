@@ -0,0 +1,154 @@
+package com.zerobase.mytable.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.mytable.domain.Review;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.domain.StoreReviewSummary;
+import com.zerobase.mytable.dto.ReviewSummaryDto;
+import com.zerobase.mytable.repository.ReviewRepository;
+import com.zerobase.mytable.repository.StoreReviewSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// 점포 별 리뷰 요약(리뷰 수, 최근 리뷰 id) 관리
+// 리뷰 작성, 수정, 삭제 트랜잭션 안에서 요약 행을 잠그고 증분 갱신하며, 조회는 캐시에서 응답
+@Service
+@Slf4j
+public class ReviewSummaryService {
+
+    // 점포 리뷰 최신순 정렬
+    public static final Sort LATEST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private final StoreReviewSummaryRepository storeReviewSummaryRepository;
+    private final ReviewRepository reviewRepository;
+    private final Cache<Long, ReviewSummaryDto> cache;
+    private final int latestSize;
+
+    public ReviewSummaryService(
+            StoreReviewSummaryRepository storeReviewSummaryRepository,
+            ReviewRepository reviewRepository,
+            MeterRegistry meterRegistry,
+            @Value("${review.summary.latest-size}") int latestSize,
+            @Value("${review.summary.cache-max-size}") long cacheMaxSize,
+            @Value("${review.summary.cache-ttl-seconds}") long cacheTtlSeconds) {
+        this.storeReviewSummaryRepository = storeReviewSummaryRepository;
+        this.reviewRepository = reviewRepository;
+        this.latestSize = latestSize;
+
+        // 요약이 변경되면 커밋 이후 무효화하고, 다른 인스턴스의 변경은 일정 시간 후 반영
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "review.summary");
+    }
+
+    // 점포 리뷰 요약 조회(요약 행이 아직 없는 점포는 리뷰 테이블에서 집계)
+    public ReviewSummaryDto getSummary(Store store) {
+        return cache.get(store.getId(), storeId ->
+                ReviewSummaryDto.from(storeReviewSummaryRepository.findById(storeId)
+                        .orElseGet(() -> aggregate(store))));
+    }
+
+    // 리뷰 작성 반영(리뷰 저장 이후 호출)
+    public void reviewCreated(Review review) {
+        update(review.getStore(), summary -> {
+            List<Long> ids = new ArrayList<>(
+                    ReviewSummaryDto.toIds(summary.getLatestReviewIds()));
+            ids.add(0, review.getId());
+
+            summary.setReviewCount(summary.getReviewCount() + 1);
+            summary.setLatestReviewIds(join(ids.subList(0, Math.min(ids.size(), latestSize))));
+        });
+    }
+
+    // 리뷰 수정 반영(건수, 최근 리뷰는 그대로이고 revision만 증가)
+    public void reviewUpdated(Review review) {
+        update(review.getStore(), summary -> {
+        });
+    }
+
+    // 리뷰 삭제 반영(리뷰 삭제 이후 호출)
+    // 최근 리뷰 목록에 있던 리뷰가 삭제된 경우에만 최근 리뷰 id를 다시 조회
+    public void reviewDeleted(Review review) {
+        update(review.getStore(), summary -> {
+            summary.setReviewCount(Math.max(0, summary.getReviewCount() - 1));
+
+            if (ReviewSummaryDto.toIds(summary.getLatestReviewIds())
+                    .contains(review.getId())) {
+                summary.setLatestReviewIds(join(findLatestIds(review.getStore())));
+            }
+        });
+    }
+
+    private void update(Store store, Consumer<StoreReviewSummary> change) {
+        // 요약 행을 먼저 만들어 두어 첫 리뷰가 동시에 작성되어도 같은 행을 잠그고 순서대로 처리
+        boolean created = storeReviewSummaryRepository.insertIfAbsent(store.getId()) == 1;
+        StoreReviewSummary summary = storeReviewSummaryRepository
+                .findByStoreIdForUpdate(store.getId())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Review summary row is missing : store=" + store.getId()));
+
+        // 이번에 생성한 행은 이번 변경이 반영된 리뷰 테이블에서 집계
+        if (created) {
+            StoreReviewSummary aggregated = aggregate(store);
+            summary.setReviewCount(aggregated.getReviewCount());
+            summary.setLatestReviewIds(aggregated.getLatestReviewIds());
+        } else {
+            change.accept(summary);
+        }
+        summary.setRevision(summary.getRevision() + 1);
+        storeReviewSummaryRepository.save(summary);
+
+        evictAfterCommit(store.getId());
+    }
+
+    private StoreReviewSummary aggregate(Store store) {
+        log.debug("review summary aggregated : store={}", store.getId());
+        return StoreReviewSummary.builder()
+                .storeId(store.getId())
+                .reviewCount(reviewRepository.countByStore(store))
+                .latestReviewIds(join(findLatestIds(store)))
+                .build();
+    }
+
+    private List<Long> findLatestIds(Store store) {
+        return reviewRepository.findIdsByStore(store, PageRequest.of(0, latestSize, LATEST));
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private void evictAfterCommit(Long storeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(storeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cache.invalidate(storeId);
+                    }
+                });
+    }
+}
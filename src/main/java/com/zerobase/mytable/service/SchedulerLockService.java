@@ -0,0 +1,67 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.SchedulerLock;
+import com.zerobase.mytable.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 스케줄 작업용 DB 잠금
+// 잠금 획득, 해제는 작업 트랜잭션과 분리하여 별도 트랜잭션으로 즉시 커밋
+@Service
+@Slf4j
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 잠금 획득 시도, lockAtMostFor 이후에는 해제되지 않았더라도 만료
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        createIfAbsent(name);
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.acquire(
+                        name, now.plus(lockAtMostFor), instanceId, now));
+
+        return updated != null && updated == 1;
+    }
+
+    public void unlock(String name) {
+        transactionTemplate.execute(status ->
+                schedulerLockRepository.release(name, instanceId, LocalDateTime.now()));
+    }
+
+    // 잠금 행이 없으면 만료된 상태로 생성(동시에 생성한 경우 무시)
+    private void createIfAbsent(String name) {
+        if (schedulerLockRepository.existsById(name)) {
+            return;
+        }
+
+        try {
+            transactionTemplate.execute(status ->
+                    schedulerLockRepository.saveAndFlush(SchedulerLock.builder()
+                            .name(name)
+                            .lockedUntil(LocalDateTime.now())
+                            .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("scheduler lock already created : {}", name);
+        }
+    }
+}
@@ -1,17 +1,41 @@
 package com.zerobase.mytable.service;
 
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.type.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.model.FailedMessage;
 import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.model.MessageType;
 import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
 import net.nurigo.sdk.message.response.SingleMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class SendMessageService {
+
+    private final MeterRegistry meterRegistry;
+
     // 메세지 전송 서비스를 위한 api_key, api_secrte 지정
     @Value(value = "${api.key}")
     private String apiKey;
@@ -22,18 +46,142 @@ public class SendMessageService {
     @Value(value = "${caller.number}")
     private String callerNumber;
 
+    @Value(value = "${sms.api.domain}")
+    private String apiDomain;
+
+    // 동시에 진행할 수 있는 발송 요청 수(클라이언트 커넥션 사용량 제한)
+    @Value(value = "${sms.client.max-concurrency}")
+    private int maxConcurrency;
+    @Value(value = "${sms.client.acquire-timeout-ms}")
+    private long acquireTimeoutMs;
+
+    // 스텁 모드에서는 coolsms 호출 없이 지정한 지연 후 성공 응답 반환(오프라인 성능 측정용)
+    @Value(value = "${sms.stub.enabled}")
+    private boolean stubEnabled;
+    @Value(value = "${sms.stub.latency-ms}")
+    private long stubLatencyMs;
+    // 스텁 발송 실패 비율(0 ~ 1), 발송 실패 시의 처리와 지표 확인용
+    @Value(value = "${sms.stub.failure-rate}")
+    private double stubFailureRate;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private DefaultMessageService messageService;
+    private Semaphore permits;
+
+    // 클라이언트는 빈 등록 시 한 번만 생성하여 HTTP 커넥션을 재사용
+    @PostConstruct
+    protected void init() {
+        permits = new Semaphore(maxConcurrency);
+
+        if (!stubEnabled) {
+            messageService = NurigoApp.INSTANCE.initialize(apiKey, apiSecret, apiDomain);
+        }
+
+        Gauge.builder("sms.client.in-flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("sms.client.available-permits", permits,
+                        Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
 
     public SingleMessageSentResponse sendOneMessage(String phone, String text) {
+        return execute("single", () -> {
+            if (stubEnabled) {
+                stubSend();
+                return new SingleMessageSentResponse("stub", phone, callerNumber,
+                        MessageType.SMS, "정상 접수(이통사로 접수 예정) ", "82",
+                        "stub", "2000", "stub");
+            }
+            return messageService.sendOne(
+                    new SingleMessageSendingRequest(createMessage(phone, text)));
+        });
+    }
 
-        DefaultMessageService messageService = NurigoApp.INSTANCE.initialize(apiKey,
-                apiSecret, "https://api.coolsms.co.kr");
+    // 여러 건의 문자를 한 번의 요청으로 발송하고 접수되지 않은 문자 목록 반환
+    // 전체 실패 시에만 예외가 발생하므로 일부 실패는 응답의 실패 목록으로 확인
+    public List<Message> sendManyMessages(List<Message> messages) {
+        return execute("multiple", () -> {
+            if (stubEnabled) {
+                stubSend();
+                return Collections.emptyList();
+            }
 
+            MultipleDetailMessageSentResponse response =
+                    messageService.send(messages, false, false);
+            return failedMessages(messages, response.getFailedMessageList());
+        });
+    }
+
+    // 지정한 지연 후 실패 비율에 따라 발송 실패를 흉내냄
+    private void stubSend() throws InterruptedException {
+        Thread.sleep(stubLatencyMs);
+        if (ThreadLocalRandom.current().nextDouble() < stubFailureRate) {
+            throw new IllegalStateException("Stub message send failed.");
+        }
+    }
+
+    // 실패 목록의 사용자 정의 필드(없으면 수신 번호)로 요청한 문자와 연결
+    private List<Message> failedMessages(List<Message> messages,
+                                         List<FailedMessage> failedMessages) {
+        if (failedMessages == null || failedMessages.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return messages.stream()
+                .filter(message -> failedMessages.stream().anyMatch(failed ->
+                        failed.getCustomFields() != null
+                                && !failed.getCustomFields().isEmpty()
+                                ? failed.getCustomFields().equals(message.getCustomFields())
+                                : Objects.equals(failed.getTo(), message.getTo())))
+                .collect(Collectors.toList());
+    }
+
+    public Message createMessage(String phone, String text) {
         Message message = new Message();
 
         message.setFrom(callerNumber);
         message.setTo(phone.replace("-", ""));
         message.setText(text);
 
-        return messageService.sendOne(new SingleMessageSendingRequest(message));
+        return message;
+    }
+
+    // 발송 요청 수를 제한하고 발송 지연 시간과 결과(실패 시 예외 종류)를 기록
+    private <T> T execute(String type, Callable<T> request) {
+        acquirePermit();
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        String exception = "none";
+
+        try {
+            return request.call();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            result = "failure";
+            exception = e.getClass().getSimpleName();
+            log.error("Failed to send {} message.", type, e);
+            throw new CustomException(ErrorCode.MESSAGE_SEND_FAILED);
+        } finally {
+            sample.stop(meterRegistry.timer("sms.send",
+                    "type", type, "result", result, "exception", exception));
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("sms.client.acquire.timeout").increment();
+                throw new CustomException(ErrorCode.MESSAGE_SEND_FAILED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.MESSAGE_SEND_FAILED);
+        }
     }
 }
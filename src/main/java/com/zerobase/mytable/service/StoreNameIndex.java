@@ -0,0 +1,220 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// 점포명 자동완성용 메모리 색인
+// 점포명의 모든 접미사를 정렬된 맵에 저장하여 '키워드 포함' 검색을 접두사 범위 조회로 처리
+// 초성 검색을 위해 점포명을 초성으로 변환한 접미사 색인도 함께 유지
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreNameIndex {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private final StoreRepository storeRepository;
+
+    private volatile ConcurrentSkipListMap<String, Set<String>> suffixes =
+            new ConcurrentSkipListMap<>();
+    private volatile ConcurrentSkipListMap<String, Set<String>> choseongSuffixes =
+            new ConcurrentSkipListMap<>();
+
+    // 재생성 중 반영된 변경이 교체로 사라지지 않도록 재생성과 변경(등록, 수정, 삭제)을 순서대로 처리
+    private final Object mutationLock = new Object();
+
+    // 애플리케이션 기동 완료 후 저장된 점포명으로 색인 생성
+    // 다른 인스턴스의 점포 등록, 수정, 삭제는 주기적으로 색인을 새로 만들어 교체하여 반영
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${store.name-index.rebuild-cron}")
+    public void warmUp() {
+        synchronized (mutationLock) {
+            List<String> storenames = storeRepository.findAllStorenames();
+
+            ConcurrentSkipListMap<String, Set<String>> newSuffixes =
+                    new ConcurrentSkipListMap<>();
+            ConcurrentSkipListMap<String, Set<String>> newChoseongSuffixes =
+                    new ConcurrentSkipListMap<>();
+            for (String storename : storenames) {
+                String normalized = normalize(storename);
+                put(newSuffixes, normalized, storename);
+                put(newChoseongSuffixes, toChoseong(normalized), storename);
+            }
+
+            suffixes = newSuffixes;
+            choseongSuffixes = newChoseongSuffixes;
+            log.info("store name index loaded : {} stores", storenames.size());
+        }
+    }
+
+    // 키워드를 포함하는 점포명 최대 limit개 조회(조회된 점포명은 오름차순 정렬)
+    // 키워드에 초성이 포함된 경우 초성 색인에서 후보를 찾고, 초성이 아닌 글자는 원래 글자와 일치하는 점포명만 반환
+    public List<String> search(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> matches = containsChoseong(normalized)
+                ? collect(choseongSuffixes, toChoseong(normalized), limit,
+                        storename -> matchesChoseongKeyword(normalize(storename), normalized))
+                : collect(suffixes, normalized, limit, storename -> true);
+
+        return matches.stream()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    // 점포 등록, 수정, 삭제는 트랜잭션 커밋 이후 반영(롤백된 점포명이 색인에 남지 않도록)
+    public void add(String storename) {
+        afterCommit(() -> {
+            String normalized = normalize(storename);
+            put(suffixes, normalized, storename);
+            put(choseongSuffixes, toChoseong(normalized), storename);
+        });
+    }
+
+    public void remove(String storename) {
+        afterCommit(() -> {
+            String normalized = normalize(storename);
+            delete(suffixes, normalized, storename);
+            delete(choseongSuffixes, toChoseong(normalized), storename);
+        });
+    }
+
+    public void rename(String oldStorename, String newStorename) {
+        if (oldStorename.equals(newStorename)) {
+            return;
+        }
+        remove(oldStorename);
+        add(newStorename);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        apply(change);
+                    }
+                });
+    }
+
+    private void apply(Runnable change) {
+        synchronized (mutationLock) {
+            change.run();
+        }
+    }
+
+    private static Set<String> collect(ConcurrentSkipListMap<String, Set<String>> index,
+                                       String prefix, int limit,
+                                       Predicate<String> filter) {
+        Set<String> matches = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<String>> entry : index.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            for (String storename : entry.getValue()) {
+                if (!filter.test(storename)) {
+                    continue;
+                }
+                matches.add(storename);
+                if (matches.size() >= limit) {
+                    return matches;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static void put(ConcurrentSkipListMap<String, Set<String>> index,
+                            String key, String storename) {
+        for (int i = 0; i < key.length(); i++) {
+            index.compute(key.substring(i), (k, storenames) -> {
+                Set<String> values = storenames == null
+                        ? ConcurrentHashMap.newKeySet() : storenames;
+                values.add(storename);
+                return values;
+            });
+        }
+    }
+
+    private static void delete(ConcurrentSkipListMap<String, Set<String>> index,
+                               String key, String storename) {
+        for (int i = 0; i < key.length(); i++) {
+            index.computeIfPresent(key.substring(i), (k, storenames) -> {
+                storenames.remove(storename);
+                return storenames.isEmpty() ? null : storenames;
+            });
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsChoseong(String value) {
+        for (char c : value.toCharArray()) {
+            if (Arrays.binarySearch(CHOSEONG, c) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 키워드의 초성 자리는 같은 초성의 음절(또는 같은 초성)과, 그 외 자리는 같은 글자와 일치하는 부분이 있는지 확인
+    // ex) '포ㅈ'은 '포장마차'와 일치하고 '피자'와는 일치하지 않음
+    private static boolean matchesChoseongKeyword(String storename, String keyword) {
+        for (int start = 0; start + keyword.length() <= storename.length(); start++) {
+            boolean matched = true;
+            for (int i = 0; i < keyword.length() && matched; i++) {
+                char c = storename.charAt(start + i);
+                char k = keyword.charAt(i);
+                matched = Arrays.binarySearch(CHOSEONG, k) >= 0
+                        ? toChoseong(c) == k
+                        : c == k;
+            }
+            if (matched) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char toChoseong(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END
+                ? CHOSEONG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG]
+                : c;
+    }
+
+    // 완성형 한글 음절은 초성으로 변환, 그 외 문자는 그대로 유지
+    private static String toChoseong(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            sb.append(toChoseong(c));
+        }
+        return sb.toString();
+    }
+}
@@ -4,6 +4,8 @@ import com.zerobase.mytable.domain.BaseEntity;
 import com.zerobase.mytable.domain.Partner;
 import com.zerobase.mytable.domain.Reservation;
 import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.dto.ContentVersion;
 import com.zerobase.mytable.dto.ReservationDto;
 import com.zerobase.mytable.dto.StoreDto;
 import com.zerobase.mytable.dto.StoreRegisterDto;
@@ -11,18 +13,20 @@ import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.PartnerRepository;
 import com.zerobase.mytable.repository.ReservationRepository;
 import com.zerobase.mytable.repository.StoreRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.type.Address;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationEventType;
 import com.zerobase.mytable.type.ReservationStatus;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,18 +42,24 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final PartnerRepository partnerRepository;
     private final ReservationRepository reservationRepository;
-    private final TokenProvider tokenProvider;
+    private final StoreNameIndex storeNameIndex;
+    private final ReviewSummaryService reviewSummaryService;
+    private final ReservationFeedService reservationFeedService;
+    private final KioskArrivalBoard kioskArrivalBoard;
 
     // 점포 등록
-    public StoreRegisterDto.Response register(String token, StoreRegisterDto.Request request) {
+    @Transactional
+    public StoreRegisterDto.Response register(JwtPrincipal principal, StoreRegisterDto.Request request) {
         if (storeRepository.findByStorename(request.getStorename()).isPresent()) {
             throw new CustomException(ErrorCode.ALREADY_REGISTERED_STORENAME);
         }
 
-        Store requestStore = Store.from(request);
-        requestStore.setPartner(partnerRepository.getByUid(tokenProvider.getUid(token)));
+        Store requestStore = request.getTables() == null || request.getTables().isEmpty()
+                ? Store.from(request) : Restaurant.from(request);
+        requestStore.setPartner(partnerRepository.getByUid(principal.getUid()));
 
         Store savedStore = storeRepository.save(requestStore);
+        storeNameIndex.add(savedStore.getStorename());
 
         StoreRegisterDto.Response response = new StoreRegisterDto.Response();
 
@@ -63,25 +73,47 @@ public class StoreService {
     }
 
     // 점포 검색 시 키워드 포함하는 10개 검색어 자동완성
+    // DB 조회 없이 메모리 색인에서 처리
     public List<String> autoComplete(String keyword) {
-        Pageable limit = PageRequest.of(0, 10);
-        List<Store> stores = storeRepository.findByStorenameContains(keyword, limit);
-        return stores.stream()
-                .map(Store::getStorename)
-                .collect(Collectors.toList());
+        return storeNameIndex.search(keyword, 10);
     }
 
     // 점포 정보 조회
+    @Transactional(readOnly = true)
     public StoreDto getStoreInfo(String storename) {
-        return StoreDto.from(getStore(storename));
+        Store store = getStore(storename);
+
+        StoreDto storeDto = StoreDto.from(store);
+        storeDto.setReviewSummary(reviewSummaryService.getSummary(store));
+        return storeDto;
+    }
+
+    // 점포 정보 응답 버전(점포 수정 시각과 리뷰 요약 revision으로 구성)
+    // 응답을 만들기 전에 변경 여부만 확인하여 304 응답에 사용
+    // 다른 인스턴스의 변경도 바로 반영되도록 캐시가 아닌 DB에서 한 번의 PK 조회로 확인
+    @Transactional(readOnly = true)
+    public ContentVersion getStoreInfoVersion(String storename) {
+        Store store = getStore(storename);
+        StoreRepository.InfoVersion version = storeRepository
+                .findInfoVersionById(store.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
+        long revision = version.getReviewRevision() == null
+                ? 0L : version.getReviewRevision();
+
+        return ContentVersion.of(
+                "store-" + store.getId()
+                        + "-" + ContentVersion.toEpochMilli(version.getStoreUpdatedAt())
+                        + "-" + revision,
+                version.getStoreUpdatedAt(), version.getReviewUpdatedAt());
     }
 
     // 점포 정보 수정(점포에 해당하는 파트너 일치 여부 확인 후 처리)
-    public StoreDto updateStoreInfo(String token, String existingStorename,
+    @Transactional
+    public StoreDto updateStoreInfo(JwtPrincipal principal, String existingStorename,
                                     StoreRegisterDto.Request updateRequest) {
         Store store = getStore(existingStorename);
 
-        partnerValidate(token, store);
+        partnerValidate(principal, store);
 
         if (storeRepository.findByStorename(updateRequest.getStorename()).isPresent()
                 && !updateRequest.getStorename().equals(existingStorename)) {
@@ -98,16 +130,21 @@ public class StoreService {
                 .build());
         store.setDescription(updateRequest.getDescription());
 
-        return StoreDto.from(storeRepository.save(store));
+        Store savedStore = storeRepository.save(store);
+        storeNameIndex.rename(existingStorename, savedStore.getStorename());
+
+        return StoreDto.from(savedStore);
     }
 
     // 점포 삭제
-    public StoreRegisterDto.Response deleteStore(String token, String storename) {
+    @Transactional
+    public StoreRegisterDto.Response deleteStore(JwtPrincipal principal, String storename) {
         Store store = getStore(storename);
 
-        partnerValidate(token, store);
+        partnerValidate(principal, store);
 
         storeRepository.delete(store);
+        storeNameIndex.remove(store.getStorename());
 
         StoreRegisterDto.Response response = new StoreRegisterDto.Response();
         setSuccessResult(response);
@@ -116,8 +153,9 @@ public class StoreService {
     }
 
     // 파트너에 해당하는 점포 리스트 조회
-    public Page<StoreDto> getMyStores(String token, PageRequest pageRequest) {
-        Partner partner = partnerRepository.getByUid(tokenProvider.getUid(token));
+    @Transactional(readOnly = true)
+    public Page<StoreDto> getMyStores(JwtPrincipal principal, PageRequest pageRequest) {
+        Partner partner = partnerRepository.getByUid(principal.getUid());
 
         List<StoreDto> storeDtos = partner.getStores().stream()
                 .sorted(Comparator.comparing(BaseEntity::getCreatedAt))
@@ -136,8 +174,9 @@ public class StoreService {
     // 파트너 점포 별 예약 조회
     // 1. 현재 시간 이후의 예약 목록만 줄 것
     // 2. 예약 시간 별 구분해서 반환할 것
+    @Transactional(readOnly = true)
     public Page<ReservationDto> getReservationsByStore(
-            String token,
+            JwtPrincipal principal,
             String storename,
             LocalDate startDate,
             LocalDate endDate,
@@ -145,30 +184,22 @@ public class StoreService {
         Store store = storeRepository.findByStorename(storename)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
-        partnerValidate(token, store);
+        partnerValidate(principal, store);
 
         // 1. reservation의 날짜로 필터링
         // 2. reservation 예약 일자 별로 오름차순 정렬
         // 3. reservation 예약 일자 같을 경우 생성 시간 별로 오름차순 정렬
-        List<ReservationDto> reservationDtos = store.getReservations().stream()
-                .filter(x -> x.getDateTime().isAfter(startDate.atStartOfDay())
-                        && x.getDateTime().isBefore(endDate.atTime(LocalTime.MAX)))
-                .sorted(Comparator.comparing(Reservation::getDateTime)
-                        .thenComparing(BaseEntity::getCreatedAt))
-                .map(ReservationDto::from)
-                .collect(Collectors.toList());
-
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), reservationDtos.size());
-
-        return new PageImpl<>(
-                reservationDtos.subList(start, end),
-                pageRequest,
-                reservationDtos.size());
+        // 필터링, 정렬, 페이징 모두 DB에서 처리하여 한 페이지 분량의 필요한 컬럼만 조회
+        return reservationRepository.findViewsByStoreAndDateTimeBetween(
+                        store, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX),
+                        pageRequest)
+                .map(ReservationDto::from);
     }
 
     // 파트너 키오스크에서 예약자명과 전화번호를 통해 예약 검색
-    public Page<ReservationDto> searchReservation(String token,
+    // 색인에 없는 예약은 방금 확정된 예약일 수 있어 복제 DB가 아닌 원본 DB에서 확인
+    @Transactional
+    public Page<ReservationDto> searchReservation(JwtPrincipal principal,
                                             String storename,
                                             String underName,
                                             String phone,
@@ -177,35 +208,49 @@ public class StoreService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_STORE));
 
         // 점포의 파트너와 키오스크에 접속한 파트너가 다른 경우 예외 처리
-        partnerValidate(token, store);
+        partnerValidate(principal, store);
 
-        List<ReservationDto> reservationDtos =
-                reservationRepository.findAllByUnderNameAndPhoneAndStoreAndStatus(
-                        underName, phone, store, ReservationStatus.CONFIRM).stream()
-                        .sorted(Comparator.comparing(Reservation::getDateTime))
-                        .map(ReservationDto::from)
-                        .collect(Collectors.toList());
+        // 오늘 확정된 예약만 메모리 색인에서 조회(예약 일시 순)
+        List<ReservationDto> reservations =
+                kioskArrivalBoard.find(store, underName, phone);
 
-        if (reservationDtos.isEmpty()) {
+        if (reservations.isEmpty()) {
             throw new CustomException(ErrorCode.NOT_FOUND_RESERVATION);
         }
 
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), reservationDtos.size());
+        int start = (int) Math.min(pageRequest.getOffset(), reservations.size());
+        int end = Math.min((start + pageRequest.getPageSize()), reservations.size());
 
         return new PageImpl<>(
-                reservationDtos.subList(start, end),
+                reservations.subList(start, end),
                 pageRequest,
-                reservationDtos.size());
+                reservations.size());
+    }
+
+    // 파트너 점포 실시간 예약 피드 구독
+    // 점주 확인만 짧은 트랜잭션에서 처리하고, 연결이 유지되는 동안 DB 연결은 점유하지 않음
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeReservations(JwtPrincipal principal, String storename) {
+        Store store = getStore(storename);
+
+        partnerValidate(principal, store);
+
+        return reservationFeedService.subscribe(store.getId());
     }
 
     // 파트너 키오스크에서 예약 도착 확인
-    public CommonResponse arrivalConfirm(String token, String reservationUid) {
+    @Transactional
+    public CommonResponse arrivalConfirm(JwtPrincipal principal, String reservationUid) {
         Reservation reservation = reservationRepository.findByUid(reservationUid)
                 .orElseThrow(() ->
                         new CustomException(ErrorCode.NOT_FOUND_RESERVATION));
 
-        partnerValidate(token, reservation.getStore());
+        partnerValidate(principal, reservation.getStore());
+
+        // 취소, 거절, 도착 확인, 노쇼 처리된 예약은 도착 확인 불가
+        if (reservation.getStatus() != ReservationStatus.CONFIRM) {
+            throw new CustomException(ErrorCode.RESERVATION_NOT_CONFIRMED);
+        }
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -217,6 +262,7 @@ public class StoreService {
 
         reservation.setStatus(ReservationStatus.ARRIVED);
         reservationRepository.save(reservation);
+        reservationFeedService.publish(reservation, ReservationEventType.ARRIVED);
 
         return CommonResponse.SUCCESS;
     }
@@ -240,8 +286,8 @@ public class StoreService {
         response.setMsg("요청 실패");
     }
 
-    private void partnerValidate(String token, Store store) {
-        if (!store.getPartner().getUid().equals(tokenProvider.getUid(token))) {
+    private void partnerValidate(JwtPrincipal principal, Store store) {
+        if (!store.getPartner().getUid().equals(principal.getUid())) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
     }
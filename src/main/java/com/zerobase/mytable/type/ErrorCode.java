@@ -34,12 +34,21 @@ public enum ErrorCode {
     NOT_RESERVATION_STORE("예약한 매장이 아닙니다."),
     ENTRANCE_NOT_ON_TIME("도착 확인은 예약 시간 10분 전부터 가능합니다."),
     TIME_OVER("입장 가능 시간이 지났습니다."),
+    INVALID_CURSOR("유효하지 않은 커서입니다."),
+    NOT_RESTAURANT("테이블 예약을 받지 않는 점포입니다."),
+    NO_AVAILABLE_TABLE("해당 시간에 예약 가능한 테이블이 없습니다."),
+    RESERVATION_NOT_WAITING("대기 중인 예약만 일괄 처리할 수 있습니다."),
+    RESERVATION_NOT_CONFIRMED("확정된 예약만 도착 확인할 수 있습니다."),
+    TOO_MANY_FEED_CONNECTIONS("실시간 예약 알림 연결이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 리뷰 관련
     DID_NOT_USE_THIS_STORE("리뷰는 해당 점포를 사용한 후에 작성하여 주세요."),
     NOT_FOUND_REVIEW("존재하지 않는 리뷰입니다."),
     ONLY_WORKS_WITH_WRITER("리뷰 작성자만 수정, 삭제 가능합니다."),
-    CANNOT_UPDATE_STORENAME("점포를 수정할 수는 없습니다.");
+    CANNOT_UPDATE_STORENAME("점포를 수정할 수는 없습니다."),
+
+    // 문자 발송 관련
+    MESSAGE_SEND_FAILED("문자 발송에 실패했습니다.");
 
 
     private final String description;
@@ -0,0 +1,16 @@
+package com.zerobase.mytable.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum MessageStatus {
+    PENDING("발송 대기"),
+    SENT("발송 완료"),
+    FAILED("발송 실패"),
+    // 인스턴스가 선점하여 발송 중(ordinal로 저장되므로 마지막에 추가)
+    SENDING("발송 중");
+
+    private final String msg;
+}
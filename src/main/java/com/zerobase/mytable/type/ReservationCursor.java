@@ -0,0 +1,48 @@
+package com.zerobase.mytable.type;
+
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.ReservationRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 고객 예약 목록 커서 페이징에 사용하는 (예약 일시, id) 커서
+// 외부에는 "dateTime,id"를 Base64 URL 인코딩한 불투명 토큰으로 노출
+@Getter
+@AllArgsConstructor
+public class ReservationCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime dateTime;
+    private final Long id;
+
+    public static ReservationCursor from(ReservationRepository.ReservationView reservation) {
+        return new ReservationCursor(reservation.getDateTime(), reservation.getId());
+    }
+
+    public static ReservationCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new ReservationCursor(LocalDateTime.parse(values[0]),
+                    Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = dateTime.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
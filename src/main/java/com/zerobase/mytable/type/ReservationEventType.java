@@ -0,0 +1,18 @@
+package com.zerobase.mytable.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 파트너 예약 피드로 전달되는 예약 변경 종류(SSE event name으로 사용)
+@Getter
+@AllArgsConstructor
+public enum ReservationEventType {
+    CREATED("reservation-created"),
+    UPDATED("reservation-updated"),
+    CANCELLED("reservation-cancelled"),
+    CONFIRMED("reservation-confirmed"),
+    REJECTED("reservation-rejected"),
+    ARRIVED("reservation-arrived");
+
+    private final String eventName;
+}
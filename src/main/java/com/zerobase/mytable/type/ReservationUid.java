@@ -0,0 +1,71 @@
+package com.zerobase.mytable.type;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+
+// 예약 uid 생성 및 변환(UUIDv7, 외부에는 32자리 hex 문자열로 노출)
+// 앞 48비트가 생성 시각(ms)이라 최근 예약이 인덱스의 끝에 모여 B-tree 분할이 줄어듦
+public final class ReservationUid {
+
+    private static final int BYTES = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private ReservationUid() {
+    }
+
+    public static String generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static String generate(long epochMillis) {
+        byte[] bytes = new byte[BYTES];
+        RANDOM.nextBytes(bytes);
+
+        // 1~6 byte : unix epoch ms
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) (epochMillis >>> (40 - 8 * i));
+        }
+        // version 7, variant 10xx
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x70);
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80);
+        return toHex(bytes);
+    }
+
+    // 외부에서 받은 uid를 저장된 형식(소문자 hex)으로 변환(대소문자가 다른 uid도 같은 예약으로 처리)
+    public static String normalize(String uid) {
+        return uid == null ? null : uid.toLowerCase(Locale.ROOT);
+    }
+
+    // 32자리 hex 문자열 -> 16 byte(형식이 맞지 않으면 null)
+    public static byte[] toBytes(String uid) {
+        if (uid == null || uid.length() != BYTES * 2) {
+            return null;
+        }
+
+        byte[] bytes = new byte[BYTES];
+        for (int i = 0; i < BYTES; i++) {
+            int high = Character.digit(uid.charAt(2 * i), 16);
+            int low = Character.digit(uid.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    // 16 byte -> 32자리 소문자 hex 문자열
+    public static String toHex(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[2 * i + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+}
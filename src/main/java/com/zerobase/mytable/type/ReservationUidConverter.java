@@ -0,0 +1,20 @@
+package com.zerobase.mytable.type;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+// 예약 uid 컬럼 변환(엔티티 : 32자리 hex 문자열, DB : BINARY(16))
+// 형식이 맞지 않는 uid로 조회할 경우 null로 바인딩되어 조회 결과 없음으로 처리됨
+@Converter
+public class ReservationUidConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return ReservationUid.toBytes(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return ReservationUid.toHex(dbData);
+    }
+}
@@ -0,0 +1,17 @@
+-- reservation, review, message_outbox id 생성 방식 IDENTITY -> pooled 시퀀스 전환(MariaDB)
+-- MySQL dialect는 시퀀스를 지원하지 않아 Hibernate가 *_seq 테이블(next_val)로 id를 할당
+-- ddl-auto=update가 *_seq 테이블을 1부터 생성하므로, 배포 직후 첫 저장 전에 기존 최대 id 이후로 맞춤
+-- pooled 최적화는 초기값(1)이 아닌 next_val을 할당 구간의 끝으로 보므로(구간 = [next_val - 49, next_val])
+-- 기존 id와 겹치지 않도록 MAX(id) + allocationSize(50)로 설정
+
+CREATE TABLE IF NOT EXISTS reservation_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS review_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS message_outbox_seq (next_val BIGINT);
+
+DELETE FROM reservation_seq;
+DELETE FROM review_seq;
+DELETE FROM message_outbox_seq;
+
+INSERT INTO reservation_seq SELECT COALESCE(MAX(id), 0) + 50 FROM reservation;
+INSERT INTO review_seq SELECT COALESCE(MAX(id), 0) + 50 FROM review;
+INSERT INTO message_outbox_seq SELECT COALESCE(MAX(id), 0) + 50 FROM message_outbox;
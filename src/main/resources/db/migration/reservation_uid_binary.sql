@@ -0,0 +1,14 @@
+-- 예약 uid 컬럼 VARCHAR(32 hex) -> BINARY(16) 변환(MariaDB)
+-- ddl-auto=update는 기존 컬럼 타입을 바꾸지 않으므로 배포 전에 수동 실행
+-- 기존 uid(UUIDv4 hex)는 UNHEX로 그대로 옮겨 외부에 노출된 uid 값이 바뀌지 않음
+
+ALTER TABLE reservation ADD COLUMN uid_bin BINARY(16) NULL AFTER uid;
+
+UPDATE reservation SET uid_bin = UNHEX(uid) WHERE uid IS NOT NULL;
+
+-- 기존 컬럼 삭제 시 Hibernate가 생성한 unique 인덱스(UK_...)도 함께 삭제됨
+ALTER TABLE reservation DROP COLUMN uid;
+
+ALTER TABLE reservation CHANGE COLUMN uid_bin uid BINARY(16) NULL;
+
+ALTER TABLE reservation ADD CONSTRAINT uk_reservation_uid UNIQUE (uid);
@@ -0,0 +1,151 @@
+package com.zerobase.mytable.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, 2, meterRegistry);
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary, replica, lagMonitor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    // 읽기 전용 트랜잭션은 복제 DB로 연결
+    @Test
+    void readOnly_RoutesToReplica() throws SQLException {
+        //given
+        givenReplicaLag(1L);
+        lagMonitor.check();
+        given(replica.getConnection()).willReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertTrue(lagMonitor.isAvailable());
+        assertSame(connection, replicaConnection);
+        verify(primary, never()).getConnection();
+    }
+
+    // 읽기 전용이 아닌 트랜잭션은 원본 DB로 연결
+    @Test
+    void readWrite_RoutesToPrimary() throws SQLException {
+        //given
+        given(primary.getConnection()).willReturn(primaryConnection);
+        //when
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertSame(connection, primaryConnection);
+        verify(replica, never()).getConnection();
+    }
+
+    // 복제 지연이 허용 범위를 넘으면 원본 DB로 연결
+    @Test
+    void readOnly_LagExceeded_FallbackToPrimary() throws SQLException {
+        //given
+        givenReplicaLag(5L);
+        lagMonitor.check();
+        given(primary.getConnection()).willReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertFalse(lagMonitor.isAvailable());
+        assertSame(connection, primaryConnection);
+    }
+
+    // 복제 DB 연결 실패 시 원본 DB로 연결하고 다음 확인까지 복제 DB 사용 중지
+    @Test
+    void readOnly_ReplicaConnectionFailed_FallbackToPrimary() throws SQLException {
+        //given
+        givenReplicaLag(0L);
+        lagMonitor.check();
+        given(replica.getConnection()).willThrow(new SQLException("connection refused"));
+        given(primary.getConnection()).willReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertSame(connection, primaryConnection);
+        assertFalse(lagMonitor.isAvailable());
+    }
+
+    // 계정을 지정한 연결도 같은 기준으로 복제 DB에 연결
+    @Test
+    void readOnlyWithCredentials_RoutesToReplica() throws SQLException {
+        //given
+        givenReplicaLag(0L);
+        lagMonitor.check();
+        given(replica.getConnection("reader", "secret")).willReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        Connection connection = routingDataSource.getConnection("reader", "secret");
+        //then
+        assertSame(connection, replicaConnection);
+        verify(primary, never()).getConnection(anyString(), anyString());
+    }
+
+    // 복제가 멈춘 경우(Seconds_Behind_Master가 NULL) 사용 불가
+    @Test
+    void check_ReplicationStopped() throws SQLException {
+        //given
+        givenReplicaLag(null);
+        //when
+        lagMonitor.check();
+        //then
+        assertFalse(lagMonitor.isAvailable());
+    }
+
+    private void givenReplicaLag(Long lag) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(replica.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery("SHOW SLAVE STATUS")).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong("Seconds_Behind_Master")).willReturn(lag == null ? 0L : lag);
+        given(resultSet.wasNull()).willReturn(lag == null);
+    }
+}
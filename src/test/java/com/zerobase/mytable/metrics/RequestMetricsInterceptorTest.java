@@ -0,0 +1,62 @@
+package com.zerobase.mytable.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RequestMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RequestMetricsInterceptor interceptor =
+            new RequestMetricsInterceptor(meterRegistry, 20);
+
+    // 요청 처리 중 저장소 호출 수, SQL 실행 수를 uri 패턴 별로 기록하고 요청 종료 시 초기화
+    @Test
+    void successRecordRepositoryCalls() {
+        //given
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/store/info");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/store/info");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        //when
+        interceptor.preHandle(request, response, new Object());
+        RequestMetrics.current().incrementRepositoryCalls();
+        RequestMetrics.current().incrementRepositoryCalls();
+        RequestMetrics.current().incrementRepositoryCalls();
+        RequestMetrics.current().addStatement("select 1");
+        interceptor.afterCompletion(request, response, new Object(), null);
+        //then
+        DistributionSummary summary = meterRegistry
+                .get("http.server.requests.repository.calls")
+                .tag("uri", "/store/info")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+        assertEquals(1.0, meterRegistry.get("http.server.requests.statements")
+                .summary().totalAmount());
+        assertNull(RequestMetrics.current());
+    }
+
+    // 비동기 처리가 시작되면 afterCompletion 없이 요청 스레드의 지표 초기화
+    @Test
+    void successEndOnAsyncStarted() {
+        //given
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/partner/store/reservations/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        //when
+        interceptor.preHandle(request, response, new Object());
+        RequestMetrics.current().incrementRepositoryCalls();
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        //then
+        assertNull(RequestMetrics.current());
+        assertNull(meterRegistry.find("http.server.requests.repository.calls").summary());
+    }
+}
@@ -0,0 +1,145 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.dto.restaurant.AvailabilityDto;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.RestaurantRepository;
+import com.zerobase.mytable.type.Address;
+import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.Table;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+    @Mock
+    private RestaurantCapacityManager restaurantCapacityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        availabilityService = new AvailabilityService(restaurantRepository,
+                restaurantCapacityManager, new SimpleMeterRegistry(), transactionManager,
+                2, 10, 20, 100, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        availabilityService.shutdown();
+    }
+
+    // 식당 별 예약 가능한 시간 조회 성공, 같은 조건 재조회 시 캐시 사용
+    @Test
+    void successSearchAvailability() {
+        //given
+        Restaurant pocha = restaurant(1L, "포장마차");
+        Restaurant bistro = restaurant(2L, "비스트로");
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        LocalDateTime seven = LocalDateTime.of(tomorrow, LocalTime.of(19, 0));
+
+        given(restaurantRepository.findAll(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(pocha, bistro)));
+        given(restaurantCapacityManager.loadAvailability(eq(pocha), any()))
+                .willReturn((dateTime, numberOfPeople) -> dateTime.equals(seven));
+        given(restaurantCapacityManager.loadAvailability(eq(bistro), any()))
+                .willReturn((dateTime, numberOfPeople) -> false);
+        //when
+        Page<AvailabilityDto> response = availabilityService.searchAvailability(
+                null, List.of(tomorrow),
+                List.of(LocalTime.of(19, 0), LocalTime.of(18, 0)),
+                4, PageRequest.of(0, 10));
+        availabilityService.searchAvailability(
+                null, List.of(tomorrow),
+                List.of(LocalTime.of(19, 0), LocalTime.of(18, 0)),
+                4, PageRequest.of(0, 10));
+        //then
+        verify(restaurantRepository, times(1)).findAll(any(Pageable.class));
+        // 식당 목록 조회 1번 + 식당 별 재고 적재 2번, 각각 읽기 전용 트랜잭션
+        verify(transactionManager, times(3)).getTransaction(
+                argThat(TransactionDefinition::isReadOnly));
+        assertEquals(2, response.getContent().size());
+        assertEquals("포장마차", response.getContent().get(0).getStorename());
+        assertEquals(List.of(seven), response.getContent().get(0).getAvailableDateTimes());
+        assertTrue(response.getContent().get(1).getAvailableDateTimes().isEmpty());
+    }
+
+    // 풀에서 발생한 비즈니스 예외는 감싸지 않고 그대로 전달
+    @Test
+    void searchAvailability_UnwrapCustomException() {
+        //given
+        Restaurant pocha = restaurant(1L, "포장마차");
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        given(restaurantRepository.findAll(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(pocha)));
+        given(restaurantCapacityManager.loadAvailability(eq(pocha), any()))
+                .willReturn((dateTime, numberOfPeople) -> {
+                    throw new CustomException(ErrorCode.NO_AVAILABLE_TABLE);
+                });
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> availabilityService.searchAvailability(
+                        null, List.of(tomorrow), List.of(LocalTime.of(19, 0)),
+                        4, PageRequest.of(0, 10)));
+        //then
+        assertEquals(ErrorCode.NO_AVAILABLE_TABLE, customException.getErrorCode());
+    }
+
+    // 한 번에 조회 가능한 날짜 x 시간 조합 수를 넘으면 예외 처리
+    @Test
+    void searchAvailability_TooManySlots() {
+        //given
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<LocalDate> dates = List.of(tomorrow, tomorrow.plusDays(1),
+                tomorrow.plusDays(2), tomorrow.plusDays(3), tomorrow.plusDays(4));
+        List<LocalTime> times = List.of(LocalTime.of(17, 0), LocalTime.of(18, 0),
+                LocalTime.of(19, 0), LocalTime.of(20, 0), LocalTime.of(21, 0));
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> availabilityService.searchAvailability(
+                        null, dates, times, 4, PageRequest.of(0, 10)));
+        //then
+        assertEquals(ErrorCode.INVALID_REQUEST, customException.getErrorCode());
+    }
+
+    private Restaurant restaurant(Long id, String storename) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(id);
+        restaurant.setStorename(storename);
+        restaurant.setAddress(Address.builder().sido("서울특별시").sigungu("마포구").build());
+        restaurant.setTables(List.of(new Table(4, 1)));
+        return restaurant;
+    }
+}
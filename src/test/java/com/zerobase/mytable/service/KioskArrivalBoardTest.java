@@ -0,0 +1,132 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.event.ReservationChangedEvent;
+import com.zerobase.mytable.repository.ReservationRepository;
+import com.zerobase.mytable.testutil.ReservationViews;
+import com.zerobase.mytable.type.ReservationEventType;
+import com.zerobase.mytable.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KioskArrivalBoardTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private KioskArrivalBoard kioskArrivalBoard;
+
+    private final Store store = Store.builder().id(1L).storename("포장마차").build();
+
+    @BeforeEach
+    void setUp() {
+        kioskArrivalBoard = new KioskArrivalBoard(reservationRepository,
+                new SimpleMeterRegistry(), 100, 300);
+    }
+
+    // 점포의 오늘 확정 예약을 한 번 적재한 후 메모리에서 검색
+    @Test
+    void successFind() {
+        //given
+        given(reservationRepository.findViewsByStoreAndStatusAndDateTimeBetween(
+                any(), any(), any(), any()))
+                .willReturn(ReservationViews.of(List.of(
+                        reservation("2", LocalTime.of(19, 0), "홍길동"),
+                        reservation("1", LocalTime.of(18, 0), "홍길동"),
+                        reservation("3", LocalTime.of(18, 0), "김철수"))));
+        //when
+        List<ReservationDto> first = kioskArrivalBoard.find(store, "홍길동", "123");
+        List<ReservationDto> second = kioskArrivalBoard.find(store, "홍길동", "123");
+        //then
+        assertEquals(first.size(), 2);
+        assertEquals(first.get(0).getUid(), "1");
+        assertEquals(first.get(1).getUid(), "2");
+        assertEquals(second.size(), 2);
+        verify(reservationRepository, times(1))
+                .findViewsByStoreAndStatusAndDateTimeBetween(any(), any(), any(), any());
+        verify(reservationRepository, never())
+                .findViewsByStoreAndUnderNameAndPhoneAndStatusAndDateTimeBetween(
+                        any(), any(), any(), any(), any(), any());
+    }
+
+    // 색인에 없는 예약자는 DB에서 한 번 더 확인
+    @Test
+    void find_FallbackToDatabase() {
+        //given
+        given(reservationRepository.findViewsByStoreAndStatusAndDateTimeBetween(
+                any(), any(), any(), any()))
+                .willReturn(List.of());
+        given(reservationRepository
+                .findViewsByStoreAndUnderNameAndPhoneAndStatusAndDateTimeBetween(
+                        any(), any(), any(), any(), any(), any()))
+                .willReturn(ReservationViews.of(List.of(
+                        reservation("1", LocalTime.of(18, 0), "홍길동"))));
+        //when
+        List<ReservationDto> first = kioskArrivalBoard.find(store, "홍길동", "123");
+        List<ReservationDto> second = kioskArrivalBoard.find(store, "홍길동", "123");
+        //then
+        assertEquals(first.get(0).getUid(), "1");
+        assertEquals(second.get(0).getUid(), "1");
+        verify(reservationRepository, times(1))
+                .findViewsByStoreAndUnderNameAndPhoneAndStatusAndDateTimeBetween(
+                        any(), any(), any(), any(), any(), any());
+    }
+
+    // 예약 확정은 색인에 추가, 도착 확인은 색인에서 제거
+    @Test
+    void successOnReservationChanged() {
+        //given
+        given(reservationRepository.findViewsByStoreAndStatusAndDateTimeBetween(
+                any(), any(), any(), any()))
+                .willReturn(List.of());
+        given(reservationRepository
+                .findViewsByStoreAndUnderNameAndPhoneAndStatusAndDateTimeBetween(
+                        any(), any(), any(), any(), any(), any()))
+                .willReturn(List.of());
+        kioskArrivalBoard.find(store, "김철수", "456");
+
+        Reservation reservation = reservation("1", LocalTime.of(18, 0), "홍길동");
+        //when
+        kioskArrivalBoard.onReservationChanged(new ReservationChangedEvent(
+                1L, ReservationEventType.CONFIRMED, ReservationDto.from(reservation)));
+        List<ReservationDto> confirmed = kioskArrivalBoard.find(store, "홍길동", "123");
+
+        reservation.setStatus(ReservationStatus.ARRIVED);
+        kioskArrivalBoard.onReservationChanged(new ReservationChangedEvent(
+                1L, ReservationEventType.ARRIVED, ReservationDto.from(reservation)));
+        List<ReservationDto> arrived = kioskArrivalBoard.find(store, "홍길동", "123");
+        //then
+        assertEquals(confirmed.size(), 1);
+        assertEquals(confirmed.get(0).getUid(), "1");
+        assertTrue(arrived.isEmpty());
+    }
+
+    private Reservation reservation(String uid, LocalTime time, String underName) {
+        return Reservation.builder()
+                .uid(uid)
+                .dateTime(LocalDateTime.of(LocalDate.now(), time))
+                .underName(underName)
+                .phone("123")
+                .status(ReservationStatus.CONFIRM)
+                .store(store)
+                .build();
+    }
+}
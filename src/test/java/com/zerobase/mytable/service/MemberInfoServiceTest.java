@@ -6,7 +6,8 @@ import com.zerobase.mytable.dto.MemberInfoDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.CustomerRepository;
 import com.zerobase.mytable.repository.PartnerRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.PrincipalCache;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,18 +26,19 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class MemberInfoServiceTest {
 
-    @Mock
-    private TokenProvider tokenProvider;
     @Mock
     private PartnerRepository partnerRepository;
     @Mock
     private CustomerRepository customerRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private PrincipalCache principalCache;
     @InjectMocks
     private MemberInfoService memberInfoService;
 
@@ -50,13 +53,12 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(partnerRepository.getByUid(anyString()))
                 .willReturn(partner);
         //when
         MemberInfoDto memberInfoDto =
-                memberInfoService.getPartnerInfo("abc");
+                memberInfoService.getPartnerInfo(principal);
         //then
         assertEquals(memberInfoDto.getEmail(), "abc");
         assertEquals(memberInfoDto.getName(), "abc");
@@ -76,13 +78,12 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         //when
         MemberInfoDto memberInfoDto =
-                memberInfoService.getCustomerInfo("abc");
+                memberInfoService.getCustomerInfo(principal);
         //then
         assertEquals(memberInfoDto.getEmail(), "abc");
         assertEquals(memberInfoDto.getName(), "abc");
@@ -102,8 +103,7 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(partnerRepository.getByUid(anyString()))
                 .willReturn(partner);
         given(partnerRepository.findByEmail(anyString()))
@@ -121,8 +121,9 @@ class MemberInfoServiceTest {
                 .birth(LocalDate.of(2000, 2, 2))
                 .build();
         MemberInfoDto memberInfoDto =
-                memberInfoService.updatePartnerInfo("abc", request);
+                memberInfoService.updatePartnerInfo(principal, request);
         //then
+        verify(principalCache).invalidate("abc");
         assertEquals(memberInfoDto.getEmail(), "aaa");
         assertEquals(memberInfoDto.getName(), "bbb");
         assertEquals(memberInfoDto.getPassword(), "**********");
@@ -141,8 +142,7 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(partnerRepository.getByUid(anyString()))
                 .willReturn(partner);
         given(partnerRepository.findByEmail(anyString()))
@@ -156,7 +156,7 @@ class MemberInfoServiceTest {
                 .birth(LocalDate.of(2000, 2, 2))
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> memberInfoService.updatePartnerInfo("abc", request));
+                () -> memberInfoService.updatePartnerInfo(principal, request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ALREADY_EMAIL_EXIST);
     }
@@ -172,8 +172,7 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(customerRepository.findByEmail(anyString()))
@@ -191,7 +190,7 @@ class MemberInfoServiceTest {
                 .birth(LocalDate.of(2000, 2, 2))
                 .build();
         MemberInfoDto memberInfoDto =
-                memberInfoService.updateCustomerInfo("abc", request);
+                memberInfoService.updateCustomerInfo(principal, request);
         //then
         assertEquals(memberInfoDto.getEmail(), "aaa");
         assertEquals(memberInfoDto.getName(), "bbb");
@@ -211,8 +210,7 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(customerRepository.findByEmail(anyString()))
@@ -226,7 +224,7 @@ class MemberInfoServiceTest {
                 .birth(LocalDate.of(2000, 2, 2))
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> memberInfoService.updateCustomerInfo("abc", request));
+                () -> memberInfoService.updateCustomerInfo(principal, request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ALREADY_EMAIL_EXIST);
     }
@@ -242,16 +240,16 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(partnerRepository.getByUid(anyString()))
                 .willReturn(partner);
         given(passwordEncoder.matches(anyString(), anyString()))
                 .willReturn(true);
         //when
         CommonResponse commonResponse =
-                memberInfoService.deletePartnerInfo("abc", "abc");
+                memberInfoService.deletePartnerInfo(principal, "abc");
         //then
+        verify(principalCache).invalidate("abc");
         assertEquals(commonResponse, CommonResponse.SUCCESS);
     }
 
@@ -266,15 +264,14 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(partnerRepository.getByUid(anyString()))
                 .willReturn(partner);
         given(passwordEncoder.matches(anyString(), anyString()))
                 .willReturn(false);
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> memberInfoService.deletePartnerInfo("abc", "abc"));
+                () -> memberInfoService.deletePartnerInfo(principal, "abc"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.INCORRECT_PASSWORD);
     }
@@ -290,15 +287,14 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(passwordEncoder.matches(anyString(), anyString()))
                 .willReturn(true);
         //when
         CommonResponse commonResponse =
-                memberInfoService.deleteCustomerInfo("abc", "abc");
+                memberInfoService.deleteCustomerInfo(principal, "abc");
         //then
         assertEquals(commonResponse, CommonResponse.SUCCESS);
     }
@@ -314,15 +310,14 @@ class MemberInfoServiceTest {
                 .phone("010-1111-1111")
                 .birth(LocalDate.of(1900, 1, 1))
                 .build();
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(passwordEncoder.matches(anyString(), anyString()))
                 .willReturn(false);
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> memberInfoService.deleteCustomerInfo("abc", "abc"));
+                () -> memberInfoService.deleteCustomerInfo(principal, "abc"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.INCORRECT_PASSWORD);
     }
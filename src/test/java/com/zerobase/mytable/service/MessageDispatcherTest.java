@@ -0,0 +1,170 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.MessageOutbox;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.MessageOutboxRepository;
+import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.MessageStatus;
+import net.nurigo.sdk.message.model.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageDispatcherTest {
+
+    @Mock
+    private MessageOutboxRepository messageOutboxRepository;
+    @Mock
+    private SendMessageService sendMessageService;
+    @InjectMocks
+    private MessageDispatcher messageDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(messageDispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(messageDispatcher, "maxRetries", 3);
+        ReflectionTestUtils.setField(messageDispatcher, "backoffSeconds", 30L);
+        ReflectionTestUtils.setField(messageDispatcher, "claimTimeoutSeconds", 300L);
+    }
+
+    // 대기 중인 문자 일괄 발송 성공 테스트
+    @Test
+    void successDispatchPending() {
+        //given
+        MessageOutbox first = outbox(1L, "010-1111-1111");
+        MessageOutbox second = outbox(2L, "010-2222-2222");
+
+        givenClaimed(first, second);
+        Mockito.when(sendMessageService.createMessage(anyString(), anyString()))
+                .thenAnswer(invocation -> new Message());
+        //when
+        messageDispatcher.dispatchPending();
+        //then
+        verify(sendMessageService).sendManyMessages(anyList());
+        assertEquals(first.getStatus(), MessageStatus.SENT);
+        assertEquals(second.getStatus(), MessageStatus.SENT);
+    }
+
+    // 문자 발송 실패 시 백오프 후 재시도하도록 예약
+    @Test
+    void dispatchPending_ScheduleRetry() {
+        //given
+        MessageOutbox outbox = outbox(1L, "010-1111-1111");
+
+        givenClaimed(outbox);
+        Mockito.when(sendMessageService.createMessage(anyString(), anyString()))
+                .thenReturn(new Message());
+        doThrow(new CustomException(ErrorCode.MESSAGE_SEND_FAILED))
+                .when(sendMessageService).sendManyMessages(anyList());
+        //when
+        messageDispatcher.dispatchPending();
+        //then
+        assertEquals(outbox.getStatus(), MessageStatus.PENDING);
+        assertEquals(outbox.getRetryCount(), 1);
+        assertTrue(outbox.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+    }
+
+    // 최대 재시도 횟수를 넘기면 발송 실패 처리
+    @Test
+    void dispatchPending_Failed() {
+        //given
+        MessageOutbox outbox = outbox(1L, "010-1111-1111");
+        outbox.setRetryCount(2);
+
+        givenClaimed(outbox);
+        Mockito.when(sendMessageService.createMessage(anyString(), anyString()))
+                .thenReturn(new Message());
+        doThrow(new CustomException(ErrorCode.MESSAGE_SEND_FAILED))
+                .when(sendMessageService).sendManyMessages(anyList());
+        //when
+        messageDispatcher.dispatchPending();
+        //then
+        assertEquals(outbox.getStatus(), MessageStatus.FAILED);
+        assertEquals(outbox.getRetryCount(), 3);
+    }
+
+    // 일부 문자만 접수되지 않은 경우 실패한 문자만 재시도
+    @Test
+    void dispatchPending_PartialFailure() {
+        //given
+        MessageOutbox first = outbox(1L, "010-1111-1111");
+        MessageOutbox second = outbox(2L, "010-2222-2222");
+
+        givenClaimed(first, second);
+        Mockito.when(sendMessageService.createMessage(anyString(), anyString()))
+                .thenAnswer(invocation -> new Message());
+        // 두 번째 문자만 접수되지 않음
+        Mockito.when(sendMessageService.sendManyMessages(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Message> messages = invocation.getArgument(0);
+                    return messages.stream()
+                            .filter(message -> "2".equals(message.getCustomFields()
+                                    .get(MessageDispatcher.OUTBOX_ID_FIELD)))
+                            .collect(Collectors.toList());
+                });
+        //when
+        messageDispatcher.dispatchPending();
+        //then
+        assertEquals(first.getStatus(), MessageStatus.SENT);
+        assertEquals(second.getStatus(), MessageStatus.PENDING);
+        assertEquals(second.getRetryCount(), 1);
+    }
+
+    // 다른 인스턴스가 먼저 선점한 문자는 발송하지 않음
+    @Test
+    void dispatchPending_ClaimedByOtherInstance() {
+        //given
+        Mockito.when(messageOutboxRepository.findIdsToDispatch(
+                        anyCollection(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+        Mockito.when(messageOutboxRepository.claim(anyCollection(), anyCollection(),
+                        eq(MessageStatus.SENDING), anyString(),
+                        any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+        Mockito.when(messageOutboxRepository.findAllByClaimTokenOrderByIdAsc(anyString()))
+                .thenReturn(List.of());
+        //when
+        messageDispatcher.dispatchPending();
+        //then
+        verify(sendMessageService, never()).sendManyMessages(anyList());
+    }
+
+    private void givenClaimed(MessageOutbox... outboxes) {
+        List<Long> ids = Arrays.stream(outboxes)
+                .map(MessageOutbox::getId)
+                .collect(Collectors.toList());
+        Mockito.when(messageOutboxRepository.findIdsToDispatch(
+                        anyCollection(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(ids);
+        Mockito.when(messageOutboxRepository.claim(eq(ids), anyCollection(),
+                        eq(MessageStatus.SENDING), anyString(),
+                        any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(ids.size());
+        Mockito.when(messageOutboxRepository.findAllByClaimTokenOrderByIdAsc(anyString()))
+                .thenReturn(List.of(outboxes));
+    }
+
+    private static MessageOutbox outbox(Long id, String phone) {
+        MessageOutbox outbox = MessageOutbox.from(phone, "a");
+        outbox.setId(id);
+        outbox.setStatus(MessageStatus.SENDING);
+        return outbox;
+    }
+}
@@ -0,0 +1,87 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.repository.ReservationRepository;
+import com.zerobase.mytable.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NoShowSweeperTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SchedulerLockService schedulerLockService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NoShowSweeper noShowSweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        noShowSweeper = new NoShowSweeper(reservationRepository, schedulerLockService,
+                transactionManager, meterRegistry, 2, 600);
+    }
+
+    // chunk 단위로 일괄 변경하고 chunk 마다 트랜잭션 커밋
+    @Test
+    void successSweep() {
+        //given
+        LocalDateTime before = LocalDateTime.now();
+        given(schedulerLockService.tryLock(anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(reservationRepository.findIdsByStatusAndDateTimeBefore(
+                eq(ReservationStatus.CONFIRM), eq(before), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L), List.of());
+        given(reservationRepository.updateStatusByIdIn(anyList(),
+                eq(ReservationStatus.CONFIRM), eq(ReservationStatus.NO_SHOW),
+                any(LocalDateTime.class)))
+                .willReturn(2, 1);
+        //when
+        int swept = noShowSweeper.sweep(before);
+        //then
+        assertEquals(3, swept);
+        verify(reservationRepository).updateStatusByIdIn(eq(List.of(1L, 2L)),
+                any(), any(), any());
+        verify(reservationRepository).updateStatusByIdIn(eq(List.of(3L)),
+                any(), any(), any());
+        verify(transactionManager, times(3)).commit(any());
+        verify(schedulerLockService).unlock(anyString());
+        assertEquals(3.0, meterRegistry.counter("reservation.no-show.swept").count());
+        assertEquals(2.0, meterRegistry.counter("reservation.no-show.chunks").count());
+    }
+
+    // 다른 인스턴스가 잠금을 보유한 경우 실행하지 않음
+    @Test
+    void sweep_LockHeldByAnotherInstance() {
+        //given
+        given(schedulerLockService.tryLock(anyString(), any(Duration.class)))
+                .willReturn(false);
+        //when
+        int swept = noShowSweeper.sweep(LocalDateTime.now());
+        //then
+        assertEquals(0, swept);
+        verify(reservationRepository, never())
+                .findIdsByStatusAndDateTimeBefore(any(), any(), any());
+        verify(schedulerLockService, never()).unlock(anyString());
+        assertEquals(1.0, meterRegistry.counter("reservation.no-show.skipped").count());
+    }
+}
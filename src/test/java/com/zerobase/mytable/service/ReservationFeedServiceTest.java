@@ -0,0 +1,148 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.event.ReservationChangedEvent;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationEventType;
+import com.zerobase.mytable.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationFeedServiceTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationFeedService reservationFeedService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reservationFeedService = new ReservationFeedService(eventPublisher,
+                meterRegistry, 3, 2, 60000L, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationFeedService.shutdown();
+    }
+
+    // 점포 예약 피드 구독 성공 테스트
+    @Test
+    void successSubscribe() {
+        //given
+        //when
+        reservationFeedService.subscribe(1L);
+        reservationFeedService.subscribe(2L);
+        //then
+        assertEquals(meterRegistry.get("reservation.feed.connections")
+                .gauge().value(), 2.0);
+    }
+
+    // 노드 전체 연결 수 초과 시 예외 처리
+    @Test
+    void subscribe_TooManyConnections() {
+        //given
+        reservationFeedService.subscribe(1L);
+        reservationFeedService.subscribe(2L);
+        reservationFeedService.subscribe(3L);
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationFeedService.subscribe(4L));
+        //then
+        assertEquals(customException.getErrorCode(), ErrorCode.TOO_MANY_FEED_CONNECTIONS);
+        assertEquals(meterRegistry.get("reservation.feed.connections")
+                .gauge().value(), 3.0);
+    }
+
+    // 점포 당 연결 수 초과 시 예외 처리
+    @Test
+    void subscribe_TooManyConnectionsPerStore() {
+        //given
+        reservationFeedService.subscribe(1L);
+        reservationFeedService.subscribe(1L);
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationFeedService.subscribe(1L));
+        //then
+        assertEquals(customException.getErrorCode(), ErrorCode.TOO_MANY_FEED_CONNECTIONS);
+        assertEquals(meterRegistry.get("reservation.feed.connections")
+                .gauge().value(), 2.0);
+    }
+
+    // 같은 점포에 동시에 구독해도 점포 당 연결 수를 넘지 않음
+    @Test
+    void subscribe_ConcurrentPerStoreLimit() throws InterruptedException {
+        //given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        //when
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    reservationFeedService.subscribe(1L);
+                } catch (CustomException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        //then
+        assertEquals(meterRegistry.get("reservation.feed.connections")
+                .gauge().value(), 2.0);
+        assertEquals(rejected.get(), threads - 2);
+    }
+
+    // 예약 변경 발행 시 점포 id와 예약 정보를 담은 이벤트 발행
+    @Test
+    void successPublish() {
+        //given
+        Store store = Store.builder().id(1L).storename("포장마차").build();
+        Reservation reservation = Reservation.builder()
+                .uid("1")
+                .dateTime(LocalDateTime.now())
+                .underName("홍길동")
+                .phone("123")
+                .status(ReservationStatus.WAITING)
+                .store(store)
+                .build();
+        //when
+        reservationFeedService.publish(reservation, ReservationEventType.CREATED);
+        //then
+        ArgumentCaptor<ReservationChangedEvent> captor =
+                ArgumentCaptor.forClass(ReservationChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(captor.getValue().getStoreId(), 1L);
+        assertEquals(captor.getValue().getType(), ReservationEventType.CREATED);
+        assertEquals(captor.getValue().getReservation().getUid(), "1");
+        assertEquals(captor.getValue().getReservation().getStorename(), "포장마차");
+    }
+}
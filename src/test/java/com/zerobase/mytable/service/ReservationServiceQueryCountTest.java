@@ -0,0 +1,124 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.config.JpaAuditingConfiguration;
+import com.zerobase.mytable.domain.Customer;
+import com.zerobase.mytable.domain.Partner;
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.type.Address;
+import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.ReservationUid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.zerobase.mytable.testutil.QueryCountAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 실제 JPA 매핑으로 ReservationService가 실행하는 SQL 수 검증(N+1 발생 확인)
+@DataJpaTest(properties = "spring.jpa.database=h2")
+@Import({ReservationService.class, JpaAuditingConfiguration.class})
+class ReservationServiceQueryCountTest {
+
+    @MockBean
+    private MessageOutboxService messageOutboxService;
+    @MockBean
+    private RestaurantCapacityManager restaurantCapacityManager;
+    @MockBean
+    private NoShowSweeper noShowSweeper;
+    @MockBean
+    private ReservationFeedService reservationFeedService;
+
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final JwtPrincipal principal = new JwtPrincipal("customer", List.of("ROLE_CUSTOMER"));
+
+    private final List<Long> storeIds = new ArrayList<>();
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        Partner partner = entityManager.persist(Partner.builder()
+                .uid("partner")
+                .email("partner@mytable.com")
+                .name("사장님")
+                .password("password")
+                .phone("010-1111-1111")
+                .birth(LocalDate.of(1980, 1, 1))
+                .roles(List.of("ROLE_PARTNER"))
+                .build());
+        for (int i = 0; i < 3; i++) {
+            storeIds.add(entityManager.persist(Store.builder()
+                    .storename("포장마차" + i)
+                    .address(Address.builder()
+                            .sido("경기도")
+                            .sigungu("군포시")
+                            .roadname("번영로")
+                            .detailAddress("행복한 곳")
+                            .build())
+                    .description("맛있는 가게")
+                    .partner(partner)
+                    .build()).getId());
+        }
+        customerId = entityManager.persist(Customer.builder()
+                .uid("customer")
+                .email("customer@mytable.com")
+                .name("원빈")
+                .password("password")
+                .phone("010-2222-2222")
+                .birth(LocalDate.of(1990, 1, 1))
+                .roles(List.of("ROLE_CUSTOMER"))
+                .build()).getId();
+    }
+
+    // 같은 점포들의 예약이 늘어도 고객 예약 목록 조회의 SQL 수는 그대로
+    @Test
+    void customerGetMyReservationsByCursor_StatementsDoNotGrowWithReservations() {
+        //given
+        saveReservationsPerStore(1);
+        int three = countStatements(() ->
+                reservationService.customerGetMyReservationsByCursor(principal, null, 20));
+
+        saveReservationsPerStore(2);
+        //when
+        int nine = countStatements(() ->
+                reservationService.customerGetMyReservationsByCursor(principal, null, 20));
+        //then
+        assertEquals(three, nine);
+    }
+
+    // 저장 후 영속성 컨텍스트를 비워 조회 시 실제 SQL이 실행되도록 함
+    private void saveReservationsPerStore(int count) {
+        Customer customer = entityManager.find(Customer.class, customerId);
+
+        for (Long storeId : storeIds) {
+            Store store = entityManager.find(Store.class, storeId);
+            for (int i = 0; i < count; i++) {
+                entityManager.persist(Reservation.builder()
+                        .uid(ReservationUid.generate())
+                        .customer(customer)
+                        .store(store)
+                        .dateTime(LocalDateTime.now().plusDays(1 + i).withNano(0))
+                        .underName("원빈")
+                        .phone("010-2222-2222")
+                        .status(ReservationStatus.CONFIRM)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
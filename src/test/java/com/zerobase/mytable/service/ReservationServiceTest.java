@@ -4,17 +4,24 @@ import com.zerobase.mytable.domain.Customer;
 import com.zerobase.mytable.domain.Partner;
 import com.zerobase.mytable.domain.Reservation;
 import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.domain.restaurant.RestaurantReservation;
+import com.zerobase.mytable.dto.CursorPageDto;
 import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.dto.restaurant.RestaurantReservationDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.CustomerRepository;
 import com.zerobase.mytable.repository.ReservationRepository;
+import com.zerobase.mytable.repository.RestaurantReservationRepository;
 import com.zerobase.mytable.repository.StoreRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.testutil.ReservationViews;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationCursor;
+import com.zerobase.mytable.type.ReservationEventType;
 import com.zerobase.mytable.type.ReservationStatus;
-import net.nurigo.sdk.message.model.MessageType;
-import net.nurigo.sdk.message.response.SingleMessageSentResponse;
+import com.zerobase.mytable.type.Table;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -22,8 +29,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,6 +41,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,9 +60,15 @@ class ReservationServiceTest {
     @Mock
     private CustomerRepository customerRepository;
     @Mock
-    private TokenProvider tokenProvider;
+    private MessageOutboxService messageOutboxService;
     @Mock
-    private SendMessageService sendMessageService;
+    private RestaurantReservationRepository restaurantReservationRepository;
+    @Mock
+    private RestaurantCapacityManager restaurantCapacityManager;
+    @Mock
+    private NoShowSweeper noShowSweeper;
+    @Mock
+    private ReservationFeedService reservationFeedService;
     @InjectMocks
     private ReservationService reservationService;
 
@@ -62,23 +79,15 @@ class ReservationServiceTest {
         Partner partner = Partner.builder().phone("010-1111-1111").build();
         Store store = Store.builder().partner(partner).build();
         Customer customer = Customer.builder().build();
-        SingleMessageSentResponse singleMessageSentResponse =
-                new SingleMessageSentResponse("a", "b", "c",
-                        MessageType.MMS, "1", "2", "3",
-                        "4", "5");
 
         Mockito.when(storeRepository.findByStorename(anyString()))
                 .thenReturn(Optional.of(store));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(customerRepository.getByUid(anyString()))
                 .thenReturn(customer);
-        Mockito.when(reservationRepository.save(any(Reservation.class)))
+        Mockito.when(reservationRepository.saveAndFlush(any(Reservation.class)))
                 .then(returnsFirstArg());
-        Mockito.when(sendMessageService.sendOneMessage(anyString(), anyString()))
-                .thenReturn(singleMessageSentResponse);
         //when
-        String token = "abc";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         ReservationDto request = ReservationDto.builder()
                 .date(LocalDate.of(2023, 12, 1))
                 .time(LocalTime.of(16, 30))
@@ -86,9 +95,10 @@ class ReservationServiceTest {
                 .phone("010-1111-1111")
                 .storename("포장마차 1호점")
                 .build();
-        CommonResponse response = reservationService.makeReservation(token, request);
+        CommonResponse response = reservationService.makeReservation(principal, request);
         //then
         assertEquals(response, CommonResponse.SUCCESS);
+        verify(messageOutboxService).enqueue(eq("010-1111-1111"), anyString());
     }
 
     // 예약 요청 시 해당 점포 없을 경우 예외처리
@@ -98,7 +108,7 @@ class ReservationServiceTest {
         Mockito.when(storeRepository.findByStorename(anyString()))
                 .thenReturn(Optional.empty());
         //when
-        String token = "abc";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         ReservationDto request = ReservationDto.builder()
                 .date(LocalDate.of(2023, 12, 1))
                 .time(LocalTime.of(16, 30))
@@ -107,11 +117,39 @@ class ReservationServiceTest {
                 .storename("포장마차 1호점")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.makeReservation(token, request));
+                () -> reservationService.makeReservation(principal, request));
         //then
         assertEquals(ErrorCode.NOT_FOUND_STORE, customException.getErrorCode());
     }
 
+    // 예약 요청 시 다른 인스턴스에서 삭제된 점포(캐시에 남은 점포)는 캐시에서 제거 후 예외처리
+    @Test
+    void makeReservation_StoreDeletedOnOtherInstance() {
+        //given
+        Store store = Store.builder().id(1L).build();
+        Mockito.when(storeRepository.findByStorename(anyString()))
+                .thenReturn(Optional.of(store));
+        Mockito.when(customerRepository.getByUid(anyString()))
+                .thenReturn(Customer.builder().build());
+        Mockito.when(reservationRepository.saveAndFlush(any(Reservation.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_reservation_store"));
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        ReservationDto request = ReservationDto.builder()
+                .date(LocalDate.now().plusDays(1))
+                .time(LocalTime.of(16, 30))
+                .underName("홍길동")
+                .phone("010-1111-1111")
+                .storename("포장마차 1호점")
+                .build();
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationService.makeReservation(principal, request));
+        //then
+        assertEquals(ErrorCode.NOT_FOUND_STORE, customException.getErrorCode());
+        verify(storeRepository).evictFromCache(store);
+        verify(messageOutboxService, never()).enqueue(anyString(), anyString());
+    }
+
     // 예약 요청 시 예약 시간이 현재 시간으로부터 한달을 경과할 경우 예외 처리
     @Test
     void makeReservation_ReservationDateMustBeInAMonth() {
@@ -120,7 +158,7 @@ class ReservationServiceTest {
         Mockito.when(storeRepository.findByStorename(anyString()))
                 .thenReturn(Optional.of(store));
         //when
-        String token = "abc";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         ReservationDto request = ReservationDto.builder()
                 .date(LocalDate.now().plusMonths(2))
                 .time(LocalTime.of(16, 30))
@@ -129,12 +167,77 @@ class ReservationServiceTest {
                 .storename("포장마차 1호점")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.makeReservation(token, request));
+                () -> reservationService.makeReservation(principal, request));
         //then
         assertEquals(customException.getErrorCode(),
                 ErrorCode.RESERVATION_DATE_MUST_BE_IN_A_MONTH);
     }
 
+    // 식당 테이블 예약 요청 성공 테스트
+    @Test
+    void successMakeRestaurantReservation() {
+        //given
+        Partner partner = Partner.builder().phone("010-1111-1111").build();
+        Restaurant restaurant = new Restaurant();
+        restaurant.setPartner(partner);
+        restaurant.setTables(List.of(new Table(4, 2)));
+        Customer customer = Customer.builder().build();
+        Table table = new Table(4, 1);
+
+        Mockito.when(storeRepository.findByStorename(anyString()))
+                .thenReturn(Optional.of(restaurant));
+        Mockito.when(customerRepository.getByUid(anyString()))
+                .thenReturn(customer);
+        Mockito.when(restaurantCapacityManager.reserve(
+                        eq(restaurant), any(LocalDateTime.class), eq(3)))
+                .thenReturn(table);
+        Mockito.when(restaurantReservationRepository.saveAndFlush(
+                        any(RestaurantReservation.class)))
+                .then(returnsFirstArg());
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        RestaurantReservationDto request = new RestaurantReservationDto(3);
+        request.setDate(LocalDate.now().plusDays(1));
+        request.setTime(LocalTime.of(19, 0));
+        request.setUnderName("홍길동");
+        request.setPhone("010-1111-1111");
+        request.setStorename("포장마차 1호점");
+        CommonResponse response =
+                reservationService.makeRestaurantReservation(principal, request);
+        //then
+        ArgumentCaptor<RestaurantReservation> captor =
+                ArgumentCaptor.forClass(RestaurantReservation.class);
+        verify(restaurantReservationRepository).saveAndFlush(captor.capture());
+        assertEquals(response, CommonResponse.SUCCESS);
+        assertEquals(captor.getValue().getTable(), table);
+        assertEquals(captor.getValue().getNumberOfPeople(), 3);
+        verify(restaurantCapacityManager).verify(restaurant, table,
+                LocalDateTime.of(request.getDate(), request.getTime()));
+        verify(messageOutboxService).enqueue(eq("010-1111-1111"), anyString());
+    }
+
+    // 테이블 예약을 받지 않는 점포에 식당 예약 요청 시 예외처리
+    @Test
+    void makeRestaurantReservation_NotRestaurant() {
+        //given
+        Store store = Store.builder().build();
+
+        Mockito.when(storeRepository.findByStorename(anyString()))
+                .thenReturn(Optional.of(store));
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        RestaurantReservationDto request = new RestaurantReservationDto(3);
+        request.setDate(LocalDate.now().plusDays(1));
+        request.setTime(LocalTime.of(19, 0));
+        request.setStorename("포장마차 1호점");
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationService.makeRestaurantReservation(principal, request));
+        //then
+        assertEquals(ErrorCode.NOT_RESTAURANT, customException.getErrorCode());
+        verify(restaurantCapacityManager, never())
+                .reserve(any(), any(), anyInt());
+    }
+
     // 고객이 예약한 예약 리스트 조회 성공 테스트
     @Test
     void customerGetMyReservations() {
@@ -156,16 +259,18 @@ class ReservationServiceTest {
             reservations.add(reservation);
         }
 
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(customerRepository.getByUid(anyString()))
                 .thenReturn(customer);
-        Mockito.when(customer.getReservations()).thenReturn(reservations);
+        Mockito.when(reservationRepository.findViewsByCustomer(
+                        any(Customer.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(ReservationViews.of(reservations),
+                        PageRequest.of(0, 5), reservations.size()));
         //when
-        String token = "abc";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         Page<ReservationDto> page = reservationService.customerGetMyReservations(
-                token, PageRequest.of(0, 5));
+                principal, PageRequest.of(0, 5));
         //then
+        assertEquals(page.getTotalElements(), 3);
         for (int i = 0; i < reservations.size(); i++) {
             assertEquals(page.getContent().get(i).getUid(),
                     reservations.stream()
@@ -174,6 +279,81 @@ class ReservationServiceTest {
         }
     }
 
+    // 고객이 예약한 예약 리스트 커서 기반 조회 성공 테스트
+    @Test
+    void successCustomerGetMyReservationsByCursor() {
+        //given
+        Customer customer = Customer.builder().uid("abc").build();
+        Store store = Store.builder().storename("포장마차").build();
+
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            reservations.add(Reservation.builder()
+                    .id((long) i)
+                    .customer(customer)
+                    .uid(Integer.toString(i))
+                    .dateTime(LocalDateTime.of(2023, 12, i, 12, 0))
+                    .underName("abc")
+                    .phone("123")
+                    .store(store)
+                    .build());
+        }
+
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        Mockito.when(customerRepository.getByUid(anyString()))
+                .thenReturn(customer);
+        Mockito.when(reservationRepository.findViewsByCustomerOrderByDateTimeAscIdAsc(
+                        any(Customer.class), any(Pageable.class)))
+                .thenReturn(ReservationViews.of(reservations));
+        //when
+        CursorPageDto<ReservationDto> page =
+                reservationService.customerGetMyReservationsByCursor(
+                        principal, null, 2);
+        //then
+        assertTrue(page.isHasNext());
+        assertEquals(page.getContent().size(), 2);
+        assertEquals(page.getContent().get(0).getUid(), "1");
+        assertEquals(page.getContent().get(1).getUid(), "2");
+
+        ReservationCursor cursor = ReservationCursor.decode(page.getNextCursor());
+        assertEquals(cursor.getDateTime(), LocalDateTime.of(2023, 12, 2, 12, 0));
+        assertEquals(cursor.getId(), 2L);
+    }
+
+    // 고객이 예약한 예약 리스트 커서 기반 조회 시 커서가 유효하지 않을 경우 예외 처리
+    @Test
+    void customerGetMyReservationsByCursor_InvalidCursor() {
+        //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        Mockito.when(customerRepository.getByUid(anyString()))
+                .thenReturn(Customer.builder().uid("abc").build());
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationService.customerGetMyReservationsByCursor(
+                        principal, "invalid-cursor", 2));
+        //then
+        assertEquals(customException.getErrorCode(), ErrorCode.INVALID_CURSOR);
+    }
+
+    // 고객이 예약한 예약 리스트 커서 기반 조회 시 조회 개수가 최대 개수를 넘으면 예외 처리
+    @Test
+    void customerGetMyReservationsByCursor_TooLargeSize() {
+        //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        //when
+        CustomException tooLarge = assertThrows(CustomException.class,
+                () -> reservationService.customerGetMyReservationsByCursor(
+                        principal, null, 101));
+        CustomException overflow = assertThrows(CustomException.class,
+                () -> reservationService.customerGetMyReservationsByCursor(
+                        principal, null, Integer.MAX_VALUE));
+        //then
+        assertEquals(tooLarge.getErrorCode(), ErrorCode.INVALID_REQUEST);
+        assertEquals(overflow.getErrorCode(), ErrorCode.INVALID_REQUEST);
+        verify(reservationRepository, never())
+                .findViewsByCustomerOrderByDateTimeAscIdAsc(any(), any());
+    }
+
     // 고객 예약 상세정보 조회
     @Test
     void successCustomerGetReservation() {
@@ -192,13 +372,11 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         ReservationDto reservationDto = reservationService.customerGetReservation(
-                token, reservationUid);
+                principal, reservationUid);
         //then
         assertEquals(reservationDto.getUid(), "1");
         assertEquals(reservationDto.getDate(), now.toLocalDate());
@@ -208,6 +386,34 @@ class ReservationServiceTest {
         assertEquals(reservationDto.getStorename(), "포장마차");
     }
 
+    // 고객 예약 상세정보 조회 시 복제 DB에 없는 예약은 원본 DB에서 다시 조회
+    @Test
+    void successCustomerGetReservation_FallbackToPrimary() {
+        //given
+        Customer customer = Customer.builder().uid("abc").build();
+        Store store = Store.builder().storename("포장마차").build();
+        Reservation reservation = Reservation.builder()
+                .customer(customer)
+                .uid("1")
+                .dateTime(LocalDateTime.now())
+                .underName("abc")
+                .phone("123")
+                .store(store)
+                .build();
+
+        Mockito.when(reservationRepository.findByUid("1"))
+                .thenReturn(Optional.empty());
+        Mockito.when(reservationRepository.findWithStoreAndCustomerByUidOnPrimary("1"))
+                .thenReturn(Optional.of(reservation));
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
+        ReservationDto reservationDto = reservationService.customerGetReservation(
+                principal, "1");
+        //then
+        assertEquals(reservationDto.getUid(), "1");
+        assertEquals(reservationDto.getStorename(), "포장마차");
+    }
+
     // 고객 예약 상세정보 조회 시 찾고자 하는 예약 없을 때 예외 처리
     @Test
     void customerGetReservation_ReservationNotFound() {
@@ -216,10 +422,10 @@ class ReservationServiceTest {
                 .thenReturn(Optional.empty());
 
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.customerGetReservation(token, reservationUid));
+                () -> reservationService.customerGetReservation(principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
     }
@@ -235,13 +441,11 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("aaa");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("aaa", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.customerGetReservation(token, reservationUid));
+                () -> reservationService.customerGetReservation(principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(),
                 ErrorCode.ACCESS_ONLY_REQUESTED_CUSTOMER);
@@ -265,23 +469,15 @@ class ReservationServiceTest {
                 .store(store)
                 .build();
 
-        SingleMessageSentResponse singleMessageSentResponse =
-                new SingleMessageSentResponse("a", "b", "c",
-                        MessageType.MMS, "1", "2", "3",
-                        "4", "5");
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(reservationRepository.save(any(Reservation.class)))
                 .then(returnsFirstArg());
-        Mockito.when(sendMessageService.sendOneMessage(anyString(), anyString()))
-                .thenReturn(singleMessageSentResponse);
         //when
         LocalDate tomorrow = now.toLocalDate().plusDays(1);
 
-        String token = "111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "123123";
         ReservationDto request = ReservationDto.builder()
                 .date(tomorrow)
@@ -291,7 +487,7 @@ class ReservationServiceTest {
                 .storename("포장마차")
                 .build();
         ReservationDto reservationDto = reservationService.updateReservation(
-                token, reservationUid, request);
+                principal, reservationUid, request);
         //then
         assertEquals(reservationDto.getDate(), tomorrow);
         assertEquals(reservationDto.getTime(), LocalTime.of(16, 30));
@@ -309,7 +505,7 @@ class ReservationServiceTest {
                 .thenReturn(Optional.empty());
 
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         ReservationDto request = ReservationDto.builder()
                 .date(LocalDate.now())
@@ -320,7 +516,7 @@ class ReservationServiceTest {
                 .build();
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.updateReservation(
-                        token, reservationUid, request));
+                        principal, reservationUid, request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
     }
@@ -336,10 +532,8 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("aaa");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("aaa", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         ReservationDto request = ReservationDto.builder()
                 .date(LocalDate.now())
@@ -350,7 +544,7 @@ class ReservationServiceTest {
                 .build();
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.updateReservation(
-                        token, reservationUid, request));
+                        principal, reservationUid, request));
         //then
         assertEquals(customException.getErrorCode(),
                 ErrorCode.ACCESS_ONLY_REQUESTED_CUSTOMER);
@@ -376,13 +570,11 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
 
         //when
         LocalDate tomorrow = now.toLocalDate().plusDays(1);
 
-        String token = "111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "123123";
         ReservationDto request = ReservationDto.builder()
                 .date(tomorrow)
@@ -393,7 +585,7 @@ class ReservationServiceTest {
                 .build();
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.updateReservation(
-                        token, reservationUid, request));
+                        principal, reservationUid, request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.CANNOT_UPDATE_STORE);
     }
@@ -415,24 +607,16 @@ class ReservationServiceTest {
                 .store(store)
                 .build();
 
-        SingleMessageSentResponse singleMessageSentResponse =
-                new SingleMessageSentResponse("a", "b", "c",
-                        MessageType.MMS, "1", "2", "3",
-                        "4", "5");
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(reservationRepository.save(any(Reservation.class)))
                 .then(returnsFirstArg());
-        Mockito.when(sendMessageService.sendOneMessage(anyString(), anyString()))
-                .thenReturn(singleMessageSentResponse);
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         ReservationDto reservationDto = reservationService.cancelReservation(
-                token, reservationUid);
+                principal, reservationUid);
         //then
         assertEquals(reservationDto.getUid(), "1");
         assertEquals(reservationDto.getDate(), now.toLocalDate());
@@ -451,10 +635,10 @@ class ReservationServiceTest {
                 .thenReturn(Optional.empty());
 
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.cancelReservation(token, reservationUid));
+                () -> reservationService.cancelReservation(principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
     }
@@ -470,13 +654,11 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("aaa");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("aaa", List.of("ROLE_CUSTOMER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.cancelReservation(token, reservationUid));
+                () -> reservationService.cancelReservation(principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(),
                 ErrorCode.ACCESS_ONLY_REQUESTED_CUSTOMER);
@@ -501,13 +683,11 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         ReservationDto reservationDto = reservationService.partnerGetReservation(
-                token, reservationUid);
+                principal, reservationUid);
         //then
         assertEquals(reservationDto.getUid(), "1");
         assertEquals(reservationDto.getDate(), now.toLocalDate());
@@ -524,10 +704,10 @@ class ReservationServiceTest {
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.empty());
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.partnerGetReservation(token, reservationUid));
+                () -> reservationService.partnerGetReservation(principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
     }
@@ -545,13 +725,11 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("aaa");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("aaa", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
-                () -> reservationService.partnerGetReservation(token, reservationUid));
+                () -> reservationService.partnerGetReservation(principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_ONLY_STORE_OWNER);
     }
@@ -572,24 +750,16 @@ class ReservationServiceTest {
                 .phone("123")
                 .store(store)
                 .build();
-        SingleMessageSentResponse singleMessageSentResponse =
-                new SingleMessageSentResponse("a", "b", "c",
-                        MessageType.MMS, "1", "2", "3",
-                        "4", "5");
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(reservationRepository.save(any(Reservation.class)))
                 .then(returnsFirstArg());
-        Mockito.when(sendMessageService.sendOneMessage(anyString(), anyString()))
-                .thenReturn(singleMessageSentResponse);
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         ReservationDto reservationDto = reservationService.partnerReservationConfirm(
-                token, reservationUid);
+                principal, reservationUid);
         //then
         assertEquals(reservationDto.getUid(), "1");
         assertEquals(reservationDto.getDate(), now.toLocalDate());
@@ -598,6 +768,7 @@ class ReservationServiceTest {
         assertEquals(reservationDto.getPhone(), "123");
         assertEquals(reservationDto.getStorename(), "포장마차");
         assertEquals(reservationDto.getStatus(), ReservationStatus.CONFIRM);
+        verify(reservationFeedService).publish(reservation, ReservationEventType.CONFIRMED);
     }
 
     // 파트너 예약 승인 시 찾는 예약 없을 경우 예외 처리 테스트
@@ -607,11 +778,11 @@ class ReservationServiceTest {
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.empty());
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.partnerReservationConfirm(
-                        token, reservationUid));
+                        principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
     }
@@ -629,14 +800,12 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("aaa");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("aaa", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.partnerReservationConfirm(
-                        token, reservationUid));
+                        principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_ONLY_STORE_OWNER);
     }
@@ -657,24 +826,16 @@ class ReservationServiceTest {
                 .phone("123")
                 .store(store)
                 .build();
-        SingleMessageSentResponse singleMessageSentResponse =
-                new SingleMessageSentResponse("a", "b", "c",
-                        MessageType.MMS, "1", "2", "3",
-                        "4", "5");
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(reservationRepository.save(any(Reservation.class)))
                 .then(returnsFirstArg());
-        Mockito.when(sendMessageService.sendOneMessage(anyString(), anyString()))
-                .thenReturn(singleMessageSentResponse);
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         ReservationDto reservationDto = reservationService.partnerReservationReject(
-                token, reservationUid);
+                principal, reservationUid);
         //then
         assertEquals(reservationDto.getUid(), "1");
         assertEquals(reservationDto.getDate(), now.toLocalDate());
@@ -692,11 +853,11 @@ class ReservationServiceTest {
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.empty());
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.partnerReservationReject(
-                        token, reservationUid));
+                        principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
     }
@@ -714,14 +875,12 @@ class ReservationServiceTest {
 
         Mockito.when(reservationRepository.findByUid(anyString()))
                 .thenReturn(Optional.of(reservation));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("aaa");
         //when
-        String token = "1111";
+        JwtPrincipal principal = new JwtPrincipal("aaa", List.of("ROLE_PARTNER"));
         String reservationUid = "1";
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationService.partnerReservationReject(
-                        token, reservationUid));
+                        principal, reservationUid));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_ONLY_STORE_OWNER);
     }
@@ -730,36 +889,128 @@ class ReservationServiceTest {
     @Test
     void successCheckReservationNoShow() {
         //given
-        LocalDateTime now = LocalDateTime.now();
-        List<Reservation> reservations = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            reservations.add(Reservation.builder()
-                    .uid(Integer.toString(i))
-                    .status(ReservationStatus.CONFIRM)
-                    .dateTime(now)
-                    .build());
-        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        //when
+        reservationService.checkReservationNoShow();
+        //then
+        verify(noShowSweeper).sweep(yesterday.atTime(LocalTime.MAX));
+    }
 
-        Mockito.when(reservationRepository.findAllByStatusAndDateTimeBefore(
-                any(), any()))
+    // 파트너 예약 일괄 승인 성공 테스트
+    @Test
+    void successPartnerReservationBulkConfirm() {
+        //given
+        List<Reservation> reservations = waitingReservations("abc");
+        Mockito.when(reservationRepository.findAllWithStoreByUidIn(anyCollection()))
                 .thenReturn(reservations);
-        Mockito.when(reservationRepository.save(any(Reservation.class)))
-                .then(returnsFirstArg());
+        Mockito.when(reservationRepository.updateStatusByIdIn(eq(List.of(1L, 2L)),
+                eq(ReservationStatus.WAITING), eq(ReservationStatus.CONFIRM),
+                any(LocalDateTime.class)))
+                .thenReturn(2);
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
+        List<ReservationDto> reservationDtos = reservationService
+                .partnerReservationBulkConfirm(principal, List.of("2", "1"));
+        //then
+        assertEquals(reservationDtos.size(), 2);
+        assertEquals(reservationDtos.get(0).getUid(), "2");
+        assertEquals(reservationDtos.get(1).getUid(), "1");
+        assertEquals(reservationDtos.get(0).getStatus(), ReservationStatus.CONFIRM);
+        verify(messageOutboxService, times(1)).enqueueAll(anyList());
+        verify(messageOutboxService, never()).enqueue(anyString(), anyString());
+        verify(reservationFeedService, times(2))
+                .publish(any(Reservation.class), eq(ReservationEventType.CONFIRMED));
+    }
 
+    // 파트너 예약 일괄 승인 시 대문자로 요청한 uid도 저장된 예약(소문자 uid)과 대조
+    @Test
+    void successPartnerReservationBulkConfirm_UpperCaseUid() {
+        //given
+        List<Reservation> reservations = waitingReservations("abc");
+        reservations.get(0).setUid("0a");
+        reservations.get(1).setUid("0b");
+        Mockito.when(reservationRepository.findAllWithStoreByUidIn(Set.of("0a", "0b")))
+                .thenReturn(reservations);
+        Mockito.when(reservationRepository.updateStatusByIdIn(eq(List.of(1L, 2L)),
+                eq(ReservationStatus.WAITING), eq(ReservationStatus.CONFIRM),
+                any(LocalDateTime.class)))
+                .thenReturn(2);
         //when
-        ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
+        List<ReservationDto> reservationDtos = reservationService
+                .partnerReservationBulkConfirm(principal, List.of("0B", "0a"));
+        //then
+        assertEquals(reservationDtos.size(), 2);
+        assertEquals(reservationDtos.get(0).getUid(), "0b");
+        assertEquals(reservationDtos.get(1).getUid(), "0a");
+    }
 
-        reservationService.checkReservationNoShow();
+    // 파트너 예약 일괄 처리 시 다른 점포의 예약이 포함된 경우 예외 처리
+    @Test
+    void partnerReservationBulkConfirm_AccessOnlyStoreOwner() {
+        //given
+        Mockito.when(reservationRepository.findAllWithStoreByUidIn(anyCollection()))
+                .thenReturn(waitingReservations("abc"));
+        //when
+        JwtPrincipal principal = new JwtPrincipal("other", List.of("ROLE_PARTNER"));
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationService.partnerReservationBulkConfirm(
+                        principal, List.of("1", "2")));
+        //then
+        assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_ONLY_STORE_OWNER);
+        verify(reservationRepository, never())
+                .updateStatusByIdIn(any(), any(), any(), any());
+    }
+
+    // 파트너 예약 일괄 처리 시 대기 중이 아닌 예약이 포함된 경우 예외 처리
+    @Test
+    void partnerReservationBulkReject_NotWaiting() {
+        //given
+        List<Reservation> reservations = waitingReservations("abc");
+        reservations.get(1).setStatus(ReservationStatus.CONFIRM);
+        Mockito.when(reservationRepository.findAllWithStoreByUidIn(anyCollection()))
+                .thenReturn(reservations);
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationService.partnerReservationBulkReject(
+                        principal, List.of("1", "2")));
         //then
-        verify(reservationRepository, times(3))
-                .save(captor.capture());
-        List<Reservation> captureList = captor.getAllValues();
-        assertEquals(captureList.get(0).getUid(), "0") ;
-        assertEquals(captureList.get(1).getUid(), "1") ;
-        assertEquals(captureList.get(2).getUid(), "2") ;
-        assertEquals(captureList.get(0).getStatus(), ReservationStatus.NO_SHOW) ;
-        assertEquals(captureList.get(1).getStatus(), ReservationStatus.NO_SHOW) ;
-        assertEquals(captureList.get(2).getStatus(), ReservationStatus.NO_SHOW) ;
+        assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_WAITING);
+        verify(messageOutboxService, never()).enqueueAll(anyList());
     }
 
-}
\ No newline at end of file
+    // 파트너 예약 일괄 처리 시 없는 예약이 포함된 경우 예외 처리
+    @Test
+    void partnerReservationBulkConfirm_ReservationNotFound() {
+        //given
+        Mockito.when(reservationRepository.findAllWithStoreByUidIn(anyCollection()))
+                .thenReturn(waitingReservations("abc"));
+        //when
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationService.partnerReservationBulkConfirm(
+                        principal, List.of("1", "2", "3")));
+        //then
+        assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_FOUND);
+    }
+
+    private List<Reservation> waitingReservations(String partnerUid) {
+        Partner partner = Partner.builder().uid(partnerUid).build();
+        Store store = Store.builder().id(1L).storename("포장마차").partner(partner).build();
+
+        List<Reservation> reservations = new ArrayList<>();
+        for (long i = 1; i <= 2; i++) {
+            reservations.add(Reservation.builder()
+                    .id(i)
+                    .uid(Long.toString(i))
+                    .dateTime(LocalDateTime.of(2023, 12, 1, 18, 0))
+                    .underName("홍길동")
+                    .phone("123")
+                    .status(ReservationStatus.WAITING)
+                    .store(store)
+                    .build());
+        }
+        return reservations;
+    }
+}
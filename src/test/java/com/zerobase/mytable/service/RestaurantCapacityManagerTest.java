@@ -0,0 +1,140 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.restaurant.Restaurant;
+import com.zerobase.mytable.domain.restaurant.RestaurantReservation;
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.repository.RestaurantReservationRepository;
+import com.zerobase.mytable.repository.StoreRepository;
+import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.Table;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantCapacityManagerTest {
+
+    @Mock
+    private RestaurantReservationRepository restaurantReservationRepository;
+    @Mock
+    private StoreRepository storeRepository;
+
+    private RestaurantCapacityManager restaurantCapacityManager;
+
+    private Restaurant restaurant;
+
+    private final LocalDateTime dinner =
+            LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(19, 0));
+
+    @BeforeEach
+    void setUp() {
+        restaurantCapacityManager = new RestaurantCapacityManager(
+                restaurantReservationRepository, storeRepository,
+                new SimpleMeterRegistry(), 30, 120, 100, 60);
+
+        restaurant = new Restaurant();
+        restaurant.setId(1L);
+        restaurant.setTables(List.of(new Table(2, 1), new Table(4, 1)));
+    }
+
+    // 인원을 수용하는 가장 작은 테이블부터 선점하고 모두 찬 경우 예외 처리
+    @Test
+    void successReserveSmallestTable() {
+        //given
+        given(restaurantReservationRepository.countByTableVolumeAndDateTime(
+                any(), any(), any(), any()))
+                .willReturn(List.of());
+        //when
+        Table first = restaurantCapacityManager.reserve(restaurant, dinner, 2);
+        Table second = restaurantCapacityManager.reserve(restaurant, dinner, 2);
+        CustomException customException = assertThrows(CustomException.class,
+                () -> restaurantCapacityManager.reserve(
+                        restaurant, dinner.plusMinutes(90), 1));
+        //then
+        assertEquals(2, first.getTableVolume());
+        assertEquals(4, second.getTableVolume());
+        assertEquals(ErrorCode.NO_AVAILABLE_TABLE, customException.getErrorCode());
+    }
+
+    // 식사 시간이 지난 슬롯과 반환된 테이블은 다시 예약 가능
+    @Test
+    void successReserveAfterDiningTimeAndRelease() {
+        //given
+        given(restaurantReservationRepository.countByTableVolumeAndDateTime(
+                any(), any(), any(), any()))
+                .willReturn(List.of());
+        Table table = restaurantCapacityManager.reserve(restaurant, dinner, 4);
+        RestaurantReservation reservation = new RestaurantReservation();
+        reservation.setStore(restaurant);
+        reservation.setDateTime(dinner);
+        reservation.setTable(table);
+        //when
+        Table later = restaurantCapacityManager.reserve(
+                restaurant, dinner.plusMinutes(120), 4);
+        restaurantCapacityManager.release(reservation);
+        Table released = restaurantCapacityManager.reserve(restaurant, dinner, 3);
+        //then
+        assertEquals(4, later.getTableVolume());
+        assertEquals(4, released.getTableVolume());
+    }
+
+    // 요청 스레드에서 적재한 재고로 예약 가능 여부 확인(확인 시 DB 조회 없음)
+    @Test
+    void successLoadAvailability() {
+        //given
+        given(restaurantReservationRepository.countByTableVolumeAndDateTime(
+                any(), any(), any(), any()))
+                .willReturn(List.of());
+        restaurantCapacityManager.reserve(restaurant, dinner, 4);
+        //when
+        RestaurantCapacityManager.Availability availability = restaurantCapacityManager
+                .loadAvailability(restaurant, List.of(dinner.toLocalDate()));
+        //then
+        assertTrue(availability.isAvailable(dinner, 2));
+        assertFalse(availability.isAvailable(dinner, 3));
+        assertFalse(availability.isAvailable(dinner.plusDays(1), 2));
+        verify(restaurantReservationRepository, times(1))
+                .countByTableVolumeAndDateTime(any(), any(), any(), any());
+    }
+
+    // 수용 가능한 테이블이 없는 인원은 예외 처리
+    @Test
+    void reserve_TooManyNumberOfPeople() {
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> restaurantCapacityManager.reserve(restaurant, dinner, 5));
+        //then
+        assertEquals(ErrorCode.TOO_MANY_NUMBER_OF_PEOPLE,
+                customException.getErrorCode());
+    }
+
+    // DB 재집계 결과 테이블 수를 초과한 경우 예외 처리
+    @Test
+    void verify_NoAvailableTable() {
+        //given
+        given(restaurantReservationRepository.findDateTimesByTableVolume(
+                any(), anyInt(), any(), any(), any()))
+                .willReturn(List.of(dinner.minusMinutes(60), dinner));
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> restaurantCapacityManager.verify(
+                        restaurant, new Table(4, 1), dinner));
+        //then
+        assertEquals(ErrorCode.NO_AVAILABLE_TABLE, customException.getErrorCode());
+    }
+}
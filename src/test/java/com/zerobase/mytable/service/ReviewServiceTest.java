@@ -1,14 +1,18 @@
 package com.zerobase.mytable.service;
 
 import com.zerobase.mytable.domain.*;
+import com.zerobase.mytable.dto.ContentVersion;
 import com.zerobase.mytable.dto.ReviewDto;
+import com.zerobase.mytable.dto.ReviewSummaryDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.CustomerRepository;
+import com.zerobase.mytable.repository.ReservationRepository;
 import com.zerobase.mytable.repository.ReviewRepository;
 import com.zerobase.mytable.repository.StoreRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.JwtPrincipal;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -28,6 +33,7 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ReviewServiceTest {
@@ -35,11 +41,13 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
     @Mock
-    private TokenProvider tokenProvider;
-    @Mock
     private CustomerRepository customerRepository;
     @Mock
     private StoreRepository storeRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReviewSummaryService reviewSummaryService;
     @InjectMocks
     private ReviewService reviewService;
 
@@ -51,16 +59,15 @@ class ReviewServiceTest {
         Store store = Store.builder()
                 .storename("포차")
                 .build();
-        Reservation reservation = Reservation.builder().store(store).build();
 
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(customer.getReservations())
-                .willReturn(List.of(reservation));
+        given(reservationRepository.existsByCustomerAndStoreAndStatus(
+                customer, store, ReservationStatus.ARRIVED))
+                .willReturn(true);
         given(customer.getName())
                 .willReturn("원빈");
         given(reviewRepository.save(any(Review.class)))
@@ -72,12 +79,13 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         ReviewDto reviewDto = reviewService.customerCreateReview(
-                "123", request);
+                principal, request);
         //then
         assertEquals(reviewDto.getStorename(), "포차");
         assertEquals(reviewDto.getTitle(), "맛집이에요");
         assertEquals(reviewDto.getText(), "번창하세요");
         assertEquals(reviewDto.getName(), "원*");
+        verify(reviewSummaryService).reviewCreated(any(Review.class));
     }
 
     // 리뷰 작성할 경우 점포 조회 시 저장된 점포가 아니면 예외 처리
@@ -86,8 +94,7 @@ class ReviewServiceTest {
         //given
         Customer customer = mock(Customer.class);
 
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(storeRepository.findByStorename(anyString()))
@@ -99,32 +106,28 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.customerCreateReview("123", request));
+                () -> reviewService.customerCreateReview(principal, request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_STORE);
     }
 
-    // 리뷰 작성할 경우 고객이 해당 점포에 예약 한 경우가 없을 경우 예외 처리
+    // 리뷰 작성할 경우 고객이 해당 점포에 방문 완료한 예약이 없을 경우 예외 처리
     @Test
     void customerCreateReview_DidNotUseThisStore() {
         //given
         Customer customer = mock(Customer.class);
-        Store reservationStore = Store.builder()
-                .storename("포차")
-                .build();
         Store requestStore = Store.builder()
                 .storename("포장마차")
                 .build();
-        Reservation reservation = Reservation.builder().store(reservationStore).build();
 
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(customerRepository.getByUid(anyString()))
                 .willReturn(customer);
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(requestStore));
-        given(customer.getReservations())
-                .willReturn(List.of(reservation));
+        given(reservationRepository.existsByCustomerAndStoreAndStatus(
+                customer, requestStore, ReservationStatus.ARRIVED))
+                .willReturn(false);
         //when
         ReviewDto request = ReviewDto.builder()
                 .storename("포장마차")
@@ -132,7 +135,7 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.customerCreateReview("123", request));
+                () -> reviewService.customerCreateReview(principal, request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.DID_NOT_USE_THIS_STORE);
     }
@@ -144,7 +147,7 @@ class ReviewServiceTest {
         Store store = mock(Store.class);
         Customer customer = Customer.builder().name("류승룡").build();
         List<Review> reviews = new ArrayList<>();
-        for (int i = 1; i <= 3; i++) {
+        for (int i = 3; i >= 1; i--) {
             Review review = Review.builder()
                     .id((long) i)
                     .customer(customer)
@@ -158,7 +161,10 @@ class ReviewServiceTest {
 
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(store.getReviews()).willReturn(reviews);
+        given(reviewSummaryService.getSummary(store))
+                .willReturn(new ReviewSummaryDto(3, List.of(3L, 2L, 1L), 1, null));
+        given(reviewRepository.findAllByStore(any(), any(Pageable.class)))
+                .willReturn(reviews);
         given(store.getStorename()).willReturn("포장마차");
 
         //when
@@ -168,6 +174,25 @@ class ReviewServiceTest {
         assertEquals(page.getContent().get(0).getId(), 3);
         assertEquals(page.getContent().get(1).getId(), 2);
         assertEquals(page.getContent().get(2).getId(), 1);
+        assertEquals(page.getTotalElements(), 3);
+    }
+
+    // 리뷰 리스트 응답 버전은 리뷰 요약 revision과 마지막 변경 시각으로 구성
+    @Test
+    void successGetReviewsByStoreVersion() {
+        //given
+        LocalDateTime updatedAt = LocalDateTime.of(2023, 12, 2, 12, 0);
+        Store store = Store.builder().id(1L).storename("포장마차").build();
+
+        given(storeRepository.findByStorename(anyString()))
+                .willReturn(Optional.of(store));
+        given(reviewSummaryService.getSummary(store))
+                .willReturn(new ReviewSummaryDto(3, List.of(3L, 2L, 1L), 7, updatedAt));
+        //when
+        ContentVersion version = reviewService.getReviewsByStoreVersion("포장마차");
+        //then
+        assertEquals(version.getEtag(), "reviews-1-7");
+        assertEquals(version.getLastModified(), ContentVersion.toEpochMilli(updatedAt));
     }
 
     // 점포 별 리뷰 리스트 조회 시 찾는 점포 없을 경우 예외처리
@@ -238,8 +263,7 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("12");
+        JwtPrincipal principal = new JwtPrincipal("12", List.of("ROLE_CUSTOMER"));
         given(reviewRepository.save(any(Review.class)))
                 .will(returnsFirstArg());
         //when
@@ -249,18 +273,20 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         ReviewDto reviewDto = reviewService.updateReview(
-                "123", 1L, request);
+                principal, 1L, request);
         //then
         assertEquals(reviewDto.getName(), "류*룡");
         assertEquals(reviewDto.getStorename(), "포장마차");
         assertEquals(reviewDto.getTitle(), "맛집이에요");
         assertEquals(reviewDto.getText(), "번창하세요");
+        verify(reviewSummaryService).reviewUpdated(review);
     }
 
     // 리뷰 수정 시 수정하려는 리뷰가 등록되어 있지 않을 경우 예외 처리
     @Test
     void updateReview_NotFoundReview() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.empty());
         //when
@@ -270,7 +296,7 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.updateReview("12" , 1L, request));
+                () -> reviewService.updateReview(principal , 1L, request));
 
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_REVIEW);
@@ -291,8 +317,7 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("12");
+        JwtPrincipal principal = new JwtPrincipal("12", List.of("ROLE_CUSTOMER"));
 
         //when
         ReviewDto request = ReviewDto.builder()
@@ -301,7 +326,7 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.updateReview("12" , 1L, request));
+                () -> reviewService.updateReview(principal , 1L, request));
 
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ONLY_WORKS_WITH_WRITER);
@@ -323,8 +348,7 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("12");
+        JwtPrincipal principal = new JwtPrincipal("12", List.of("ROLE_CUSTOMER"));
 
         //when
         ReviewDto request = ReviewDto.builder()
@@ -333,7 +357,7 @@ class ReviewServiceTest {
                 .text("번창하세요")
                 .build();
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.updateReview("12" , 1L, request));
+                () -> reviewService.updateReview(principal , 1L, request));
 
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.CANNOT_UPDATE_STORENAME);
@@ -355,16 +379,14 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getRole(anyString()))
-                .willReturn(List.of("ROLE_CUSTOMER"));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("12");
+        JwtPrincipal principal = new JwtPrincipal("12", List.of("ROLE_CUSTOMER"));
 
         //when
         CommonResponse commonResponse =
-                reviewService.deleteReview("123", 1L);
+                reviewService.deleteReview(principal, 1L);
         //then
         assertEquals(commonResponse, CommonResponse.SUCCESS);
+        verify(reviewSummaryService).reviewDeleted(review);
     }
 
     // 파트너 리뷰 삭제 성공 테스트
@@ -383,27 +405,26 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getRole(anyString()))
-                .willReturn(List.of("ROLE_PARTNER"));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("34");
+        JwtPrincipal principal = new JwtPrincipal("34", List.of("ROLE_PARTNER"));
 
         //when
         CommonResponse commonResponse =
-                reviewService.deleteReview("123", 1L);
+                reviewService.deleteReview(principal, 1L);
         //then
         assertEquals(commonResponse, CommonResponse.SUCCESS);
+        verify(reviewSummaryService).reviewDeleted(review);
     }
 
     // 리뷰 삭제 시 삭제하려는 리뷰가 등록되어 있지 않을 경우 예외 처리
     @Test
     void deleteReview_NotFoundReview() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_CUSTOMER"));
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.empty());
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.deleteReview("12" , 1L));
+                () -> reviewService.deleteReview(principal , 1L));
 
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_REVIEW);
@@ -425,13 +446,10 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getRole(anyString()))
-                .willReturn(List.of("ROLE_CUSTOMER"));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("34");
+        JwtPrincipal principal = new JwtPrincipal("34", List.of("ROLE_CUSTOMER"));
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.deleteReview("12" , 1L));
+                () -> reviewService.deleteReview(principal , 1L));
 
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ONLY_WORKS_WITH_WRITER);
@@ -453,13 +471,10 @@ class ReviewServiceTest {
                 .build();
         given(reviewRepository.findById(anyLong()))
                 .willReturn(Optional.of(review));
-        given(tokenProvider.getRole(anyString()))
-                .willReturn(List.of("ROLE_PARTNER"));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("12");
+        JwtPrincipal principal = new JwtPrincipal("12", List.of("ROLE_PARTNER"));
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> reviewService.deleteReview("12" , 1L));
+                () -> reviewService.deleteReview(principal , 1L));
 
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_ONLY_STORE_OWNER);
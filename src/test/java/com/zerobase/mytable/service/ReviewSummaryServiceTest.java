@@ -0,0 +1,138 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.domain.Review;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.domain.StoreReviewSummary;
+import com.zerobase.mytable.dto.ReviewSummaryDto;
+import com.zerobase.mytable.repository.ReviewRepository;
+import com.zerobase.mytable.repository.StoreReviewSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSummaryServiceTest {
+
+    @Mock
+    private StoreReviewSummaryRepository storeReviewSummaryRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private ReviewSummaryService reviewSummaryService;
+
+    private final Store store = Store.builder().id(1L).storename("포장마차").build();
+
+    @BeforeEach
+    void setUp() {
+        reviewSummaryService = new ReviewSummaryService(storeReviewSummaryRepository,
+                reviewRepository, new SimpleMeterRegistry(), 3, 100, 60);
+    }
+
+    // 리뷰 작성 시 건수 증가, 최근 리뷰 id 앞에 추가 후 최대 개수 유지
+    @Test
+    void successReviewCreated() {
+        //given
+        StoreReviewSummary summary = StoreReviewSummary.builder()
+                .storeId(1L)
+                .reviewCount(10)
+                .latestReviewIds("9,8,7")
+                .revision(4)
+                .build();
+        given(storeReviewSummaryRepository.findByStoreIdForUpdate(anyLong()))
+                .willReturn(Optional.of(summary));
+        //when
+        reviewSummaryService.reviewCreated(review(10L));
+        //then
+        assertEquals(11, summary.getReviewCount());
+        assertEquals("10,9,8", summary.getLatestReviewIds());
+        assertEquals(5, summary.getRevision());
+        verify(storeReviewSummaryRepository).save(summary);
+        verify(reviewRepository, never()).countByStore(any());
+    }
+
+    // 최근 리뷰가 삭제되면 최근 리뷰 id만 다시 조회
+    @Test
+    void successReviewDeleted_LatestReview() {
+        //given
+        StoreReviewSummary summary = StoreReviewSummary.builder()
+                .storeId(1L)
+                .reviewCount(10)
+                .latestReviewIds("9,8,7")
+                .build();
+        given(storeReviewSummaryRepository.findByStoreIdForUpdate(anyLong()))
+                .willReturn(Optional.of(summary));
+        given(reviewRepository.findIdsByStore(any(), any(Pageable.class)))
+                .willReturn(List.of(9L, 7L, 5L));
+        //when
+        reviewSummaryService.reviewDeleted(review(8L));
+        //then
+        assertEquals(9, summary.getReviewCount());
+        assertEquals("9,7,5", summary.getLatestReviewIds());
+        verify(reviewRepository, never()).countByStore(any());
+    }
+
+    // 요약 행이 없는 점포는 빈 행을 만든 후 리뷰 테이블에서 집계하여 채움
+    @Test
+    void successReviewCreated_WithoutSummary() {
+        //given
+        given(storeReviewSummaryRepository.insertIfAbsent(1L)).willReturn(1);
+        given(storeReviewSummaryRepository.findByStoreIdForUpdate(anyLong()))
+                .willReturn(Optional.of(StoreReviewSummary.builder()
+                        .storeId(1L)
+                        .build()));
+        given(reviewRepository.countByStore(store)).willReturn(4L);
+        given(reviewRepository.findIdsByStore(any(), any(Pageable.class)))
+                .willReturn(List.of(10L, 6L, 2L));
+        given(storeReviewSummaryRepository.save(any(StoreReviewSummary.class)))
+                .will(invocation -> invocation.getArgument(0));
+        //when
+        reviewSummaryService.reviewCreated(review(10L));
+        //then
+        verify(storeReviewSummaryRepository).save(argThat(summary ->
+                summary.getReviewCount() == 4
+                        && summary.getLatestReviewIds().equals("10,6,2")
+                        && summary.getRevision() == 1));
+    }
+
+    // 요약 조회는 캐시에서 응답하고, 요약이 변경되면 다시 조회
+    @Test
+    void successGetSummary() {
+        //given
+        given(storeReviewSummaryRepository.findById(1L))
+                .willReturn(Optional.of(StoreReviewSummary.builder()
+                        .storeId(1L)
+                        .reviewCount(2)
+                        .latestReviewIds("3,1")
+                        .build()));
+        given(storeReviewSummaryRepository.findByStoreIdForUpdate(anyLong()))
+                .willReturn(Optional.of(StoreReviewSummary.builder()
+                        .storeId(1L)
+                        .build()));
+        //when
+        ReviewSummaryDto first = reviewSummaryService.getSummary(store);
+        reviewSummaryService.getSummary(store);
+        reviewSummaryService.reviewUpdated(review(3L));
+        reviewSummaryService.getSummary(store);
+        //then
+        assertEquals(2, first.getReviewCount());
+        assertEquals(List.of(3L, 1L), first.getLatestReviewIds());
+        verify(storeReviewSummaryRepository, times(2)).findById(1L);
+    }
+
+    private Review review(Long id) {
+        return Review.builder().id(id).store(store).build();
+    }
+}
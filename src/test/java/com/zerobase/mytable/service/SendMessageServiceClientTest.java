@@ -0,0 +1,97 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.exception.CustomException;
+import com.zerobase.mytable.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.response.SingleMessageSentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 문자 발송 클라이언트(스텁 모드, 동시 발송 수 제한, 발송 지표) 단위 테스트
+class SendMessageServiceClientTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SendMessageService sendMessageService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sendMessageService = new SendMessageService(meterRegistry);
+        ReflectionTestUtils.setField(sendMessageService, "callerNumber", "01012345678");
+        ReflectionTestUtils.setField(sendMessageService, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(sendMessageService, "acquireTimeoutMs", 10L);
+        ReflectionTestUtils.setField(sendMessageService, "stubEnabled", true);
+        ReflectionTestUtils.setField(sendMessageService, "stubLatencyMs", 0L);
+        ReflectionTestUtils.setField(sendMessageService, "stubFailureRate", 0.0);
+    }
+
+    // 스텁 모드에서는 SDK 클라이언트를 만들지 않고 성공 응답 반환, 성공 지표 기록
+    @Test
+    void successStubSend() {
+        //given
+        sendMessageService.init();
+        Message message = sendMessageService.createMessage("010-1111-2222", "test message");
+        //when
+        SingleMessageSentResponse response =
+                sendMessageService.sendOneMessage("010-1111-2222", "test message");
+        List<Message> failed = sendMessageService.sendManyMessages(List.of(message));
+        //then
+        assertNull(ReflectionTestUtils.getField(sendMessageService, "messageService"));
+        assertEquals("정상 접수(이통사로 접수 예정) ".trim(), response.getStatusMessage().trim());
+        assertTrue(failed.isEmpty());
+        assertEquals(1L, meterRegistry.get("sms.send")
+                .tags("type", "single", "result", "success", "exception", "none")
+                .timer().count());
+        assertEquals(1L, meterRegistry.get("sms.send")
+                .tags("type", "multiple", "result", "success", "exception", "none")
+                .timer().count());
+        assertEquals(0.0, meterRegistry.get("sms.client.in-flight").gauge().value());
+        assertEquals(1.0, meterRegistry.get("sms.client.available-permits").gauge().value());
+    }
+
+    // 발송 요청 중 예외(스텁 실패 비율로 재현) 시 예외 종류와 함께 실패 지표 기록 후 예외 처리, 발송 허가는 반환
+    @Test
+    void sendOneMessage_Failure() {
+        //given
+        ReflectionTestUtils.setField(sendMessageService, "stubFailureRate", 1.0);
+        sendMessageService.init();
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> sendMessageService.sendOneMessage("010-1111-2222", "test message"));
+        //then
+        assertEquals(ErrorCode.MESSAGE_SEND_FAILED, customException.getErrorCode());
+        assertEquals(1L, meterRegistry.get("sms.send")
+                .tags("type", "single", "result", "failure",
+                        "exception", "IllegalStateException")
+                .timer().count());
+        assertNull(meterRegistry.find("sms.send")
+                .tags("type", "single", "result", "success").timer());
+        assertEquals(1.0, meterRegistry.get("sms.client.available-permits").gauge().value());
+    }
+
+    // 동시 발송 수를 넘어 발송 허가를 시간 내 얻지 못하면 발송하지 않고 예외 처리
+    @Test
+    void sendOneMessage_AcquireTimeout() throws InterruptedException {
+        //given
+        sendMessageService.init();
+        Semaphore permits = (Semaphore) ReflectionTestUtils.getField(
+                sendMessageService, "permits");
+        permits.acquire();
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> sendMessageService.sendOneMessage("010-1111-2222", "test message"));
+        //then
+        assertEquals(ErrorCode.MESSAGE_SEND_FAILED, customException.getErrorCode());
+        assertEquals(1.0, meterRegistry.counter("sms.client.acquire.timeout").count());
+        assertNull(meterRegistry.find("sms.send").timer());
+        assertEquals(0, permits.availablePermits());
+    }
+}
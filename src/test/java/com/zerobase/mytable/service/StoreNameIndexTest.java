@@ -0,0 +1,131 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.repository.StoreRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreNameIndexTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @InjectMocks
+    private StoreNameIndex storeNameIndex;
+
+    // 기동 시 저장된 점포명으로 색인 생성 후 키워드 포함 검색
+    @Test
+    void successSearchContainsKeyword() {
+        //given
+        given(storeRepository.findAllStorenames())
+                .willReturn(List.of("포장마차 2호점", "포장마차", "한식당", "Pizza House"));
+        storeNameIndex.warmUp();
+        //when
+        List<String> response = storeNameIndex.search("장", 10);
+        List<String> ignoreCase = storeNameIndex.search("house", 10);
+        //then
+        assertEquals(List.of("포장마차", "포장마차 2호점"), response);
+        assertEquals(List.of("Pizza House"), ignoreCase);
+    }
+
+    // 주기적 재생성 시 다른 인스턴스에서 변경된 점포명으로 색인 교체
+    @Test
+    void successRebuild() {
+        //given
+        given(storeRepository.findAllStorenames())
+                .willReturn(List.of("포장마차", "한식당"))
+                .willReturn(List.of("실내포차", "한식당"));
+        storeNameIndex.warmUp();
+        //when
+        storeNameIndex.warmUp();
+        //then
+        assertEquals(List.of("실내포차"), storeNameIndex.search("포차", 10));
+        assertTrue(storeNameIndex.search("포장", 10).isEmpty());
+        assertEquals(List.of("한식당"), storeNameIndex.search("ㅎㅅ", 10));
+    }
+
+    // 초성으로 점포명 검색
+    @Test
+    void successSearchChoseong() {
+        //given
+        storeNameIndex.add("포장마차");
+        storeNameIndex.add("한식당");
+        //when
+        List<String> response = storeNameIndex.search("ㅍㅈ", 10);
+        //then
+        assertEquals(List.of("포장마차"), response);
+    }
+
+    // 초성과 완성형 글자가 섞인 키워드는 완성형 글자가 일치하는 점포명만 검색
+    @Test
+    void successSearchMixedChoseong() {
+        //given
+        storeNameIndex.add("포장마차");
+        storeNameIndex.add("피자헛");
+        storeNameIndex.add("한식당");
+        //when
+        List<String> mixed = storeNameIndex.search("포ㅈ", 10);
+        List<String> choseong = storeNameIndex.search("ㅍㅈ", 10);
+        //then
+        assertEquals(List.of("포장마차"), mixed);
+        assertEquals(List.of("포장마차", "피자헛"), choseong);
+    }
+
+    // 트랜잭션 안에서 등록한 점포명은 커밋 이후 색인에 반영
+    @Test
+    void successAddAfterCommit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storeNameIndex.add("포장마차");
+            List<String> beforeCommit = storeNameIndex.search("포장", 10);
+            //when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            //then
+            assertTrue(beforeCommit.isEmpty());
+            assertEquals(List.of("포장마차"), storeNameIndex.search("포장", 10));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 점포명 변경, 삭제 시 색인 반영
+    @Test
+    void successRenameAndRemove() {
+        //given
+        storeNameIndex.add("포장마차");
+        storeNameIndex.add("한식당");
+        //when
+        storeNameIndex.rename("포장마차", "실내포차");
+        storeNameIndex.remove("한식당");
+        //then
+        assertTrue(storeNameIndex.search("장", 10).isEmpty());
+        assertTrue(storeNameIndex.search("식당", 10).isEmpty());
+        assertEquals(List.of("실내포차"), storeNameIndex.search("포차", 10));
+    }
+
+    // 조회 개수 제한
+    @Test
+    void searchLimit() {
+        //given
+        for (int i = 1; i <= 20; i++) {
+            storeNameIndex.add("포장마차 " + i + "호점");
+        }
+        //when
+        List<String> response = storeNameIndex.search("포장", 10);
+        //then
+        assertEquals(10, response.size());
+    }
+}
@@ -0,0 +1,161 @@
+package com.zerobase.mytable.service;
+
+import com.zerobase.mytable.config.JpaAuditingConfiguration;
+import com.zerobase.mytable.domain.Customer;
+import com.zerobase.mytable.domain.Partner;
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.type.Address;
+import com.zerobase.mytable.type.ReservationStatus;
+import com.zerobase.mytable.type.ReservationUid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.zerobase.mytable.testutil.QueryCountAssertions.assertStatementsAtMost;
+import static com.zerobase.mytable.testutil.QueryCountAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 JPA 매핑으로 StoreService가 실행하는 SQL 수 검증(N+1 발생 확인)
+@DataJpaTest(properties = "spring.jpa.database=h2")
+@Import({StoreService.class, JpaAuditingConfiguration.class})
+class StoreServiceQueryCountTest {
+
+    @MockBean
+    private StoreNameIndex storeNameIndex;
+    @MockBean
+    private ReviewSummaryService reviewSummaryService;
+    @MockBean
+    private ReservationFeedService reservationFeedService;
+    @MockBean
+    private KioskArrivalBoard kioskArrivalBoard;
+
+    @Autowired
+    private StoreService storeService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final JwtPrincipal principal = new JwtPrincipal("partner", List.of("ROLE_PARTNER"));
+
+    private Long storeId;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        Partner partner = entityManager.persist(Partner.builder()
+                .uid("partner")
+                .email("partner@mytable.com")
+                .name("사장님")
+                .password("password")
+                .phone("010-1111-1111")
+                .birth(LocalDate.of(1980, 1, 1))
+                .roles(List.of("ROLE_PARTNER"))
+                .build());
+        Store store = entityManager.persist(Store.builder()
+                .storename("포장마차")
+                .phone("02-111-1111")
+                .address(Address.builder()
+                        .sido("경기도")
+                        .sigungu("군포시")
+                        .roadname("번영로")
+                        .detailAddress("행복한 곳")
+                        .build())
+                .description("맛있는 가게")
+                .partner(partner)
+                .build());
+        Customer customer = entityManager.persist(Customer.builder()
+                .uid("customer")
+                .email("customer@mytable.com")
+                .name("원빈")
+                .password("password")
+                .phone("010-2222-2222")
+                .birth(LocalDate.of(1990, 1, 1))
+                .roles(List.of("ROLE_CUSTOMER"))
+                .build());
+
+        storeId = store.getId();
+        customerId = customer.getId();
+    }
+
+    // 점포 조회는 예약, 리뷰 수와 관계 없이 정해진 SQL 수로 처리
+    @Test
+    void getStoreInfo_BoundedStatements() {
+        //given
+        saveReservations(5);
+        //when
+        //then
+        assertStatementsAtMost(4, () -> storeService.getStoreInfo("포장마차"));
+    }
+
+    // 한 번 조회한 점포는 2차 캐시(점포명, id)에서 조회되어 SQL 없이 처리
+    @Test
+    void getStoreInfo_SecondLevelCache() {
+        //given
+        entityManager.flush();
+        entityManager.clear();
+        int first = countStatements(() -> storeService.getStoreInfo("포장마차"));
+        entityManager.clear();
+        //when
+        int second = countStatements(() -> storeService.getStoreInfo("포장마차"));
+        //then
+        assertTrue(first > 0);
+        assertEquals(second, 0);
+    }
+
+    // 같은 고객의 예약이 늘어도 점포 별 예약 조회의 SQL 수는 그대로
+    @Test
+    void getReservationsByStore_StatementsDoNotGrowWithReservations() {
+        //given
+        saveReservations(1);
+        int one = countStatements(this::getReservationsByStore);
+
+        saveReservations(9);
+        //when
+        int ten = countStatements(this::getReservationsByStore);
+        //then
+        assertEquals(one, ten);
+    }
+
+    // 롤백된 점포가 다음 테스트에서 캐시로 조회되지 않도록 2차 캐시 비우기
+    @AfterEach
+    void tearDown() {
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private void getReservationsByStore() {
+        storeService.getReservationsByStore(principal, "포장마차",
+                LocalDate.now(), LocalDate.now().plusDays(30), PageRequest.of(0, 20));
+    }
+
+    // 저장 후 영속성 컨텍스트를 비워 조회 시 실제 SQL이 실행되도록 함
+    private void saveReservations(int count) {
+        Store store = entityManager.find(Store.class, storeId);
+        Customer customer = entityManager.find(Customer.class, customerId);
+
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(Reservation.builder()
+                    .uid(ReservationUid.generate())
+                    .customer(customer)
+                    .store(store)
+                    .dateTime(LocalDateTime.now().plusDays(1 + i % 7).withNano(0))
+                    .underName("원빈")
+                    .phone("010-2222-2222")
+                    .status(ReservationStatus.CONFIRM)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -3,25 +3,31 @@ package com.zerobase.mytable.service;
 import com.zerobase.mytable.domain.Partner;
 import com.zerobase.mytable.domain.Reservation;
 import com.zerobase.mytable.domain.Store;
+import com.zerobase.mytable.dto.ContentVersion;
 import com.zerobase.mytable.dto.ReservationDto;
+import com.zerobase.mytable.dto.ReviewSummaryDto;
 import com.zerobase.mytable.dto.StoreDto;
 import com.zerobase.mytable.dto.StoreRegisterDto;
 import com.zerobase.mytable.exception.CustomException;
 import com.zerobase.mytable.repository.PartnerRepository;
 import com.zerobase.mytable.repository.ReservationRepository;
 import com.zerobase.mytable.repository.StoreRepository;
-import com.zerobase.mytable.security.TokenProvider;
+import com.zerobase.mytable.security.JwtPrincipal;
+import com.zerobase.mytable.testutil.ReservationViews;
 import com.zerobase.mytable.type.Address;
 import com.zerobase.mytable.type.CommonResponse;
 import com.zerobase.mytable.type.ErrorCode;
+import com.zerobase.mytable.type.ReservationEventType;
 import com.zerobase.mytable.type.ReservationStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -36,6 +42,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StoreServiceTest {
@@ -50,7 +58,17 @@ class StoreServiceTest {
     private ReservationRepository reservationRepository;
 
     @Mock
-    private TokenProvider tokenProvider;
+    private StoreNameIndex storeNameIndex;
+
+    @Mock
+    private ReviewSummaryService reviewSummaryService;
+
+    @Mock
+    private ReservationFeedService reservationFeedService;
+
+    @Mock
+    private KioskArrivalBoard kioskArrivalBoard;
+
 
     @InjectMocks
     private StoreService storeService;
@@ -66,7 +84,7 @@ class StoreServiceTest {
                 .willReturn(Optional.empty());
         given(partnerRepository.getByUid(anyString()))
                 .willReturn(partner);
-        given(tokenProvider.getUid(anyString())).willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(storeRepository.save(any(Store.class))).willReturn(store);
 
         //when
@@ -80,9 +98,10 @@ class StoreServiceTest {
                 .description("맛있는 가게")
                 .build();
 
-        StoreRegisterDto.Response response = storeService.register("abc", request);
+        StoreRegisterDto.Response response = storeService.register(principal, request);
 
         //then
+        verify(storeNameIndex).add("포장마차");
         assertTrue(response.isSuccess());
         assertEquals(response.getCode(), 0);
         assertEquals(response.getMsg(), "요청 성공");
@@ -92,6 +111,7 @@ class StoreServiceTest {
     @Test
     void register_AlreadyRegisteredStorename() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         Store store = Store.builder().storename("포장마차").build();
 
         given(storeRepository.findByStorename(anyString()))
@@ -108,7 +128,7 @@ class StoreServiceTest {
                 .build();
 
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.register("abc", request));
+                () -> storeService.register(principal, request));
         //then
         assertEquals(customException.getErrorCode(),
                 ErrorCode.ALREADY_REGISTERED_STORENAME);
@@ -118,12 +138,8 @@ class StoreServiceTest {
     @Test
     void successAutoComplete() {
         //given
-        Store store1 = Store.builder().storename("포장마차").build();
-        Store store2 = Store.builder().storename("포장마차 2호점").build();
-        Store store3 = Store.builder().storename("포장마차 3호점").build();
-
-        given(storeRepository.findByStorenameContains(anyString(), any(Pageable.class)))
-                .willReturn(List.of(store1, store2, store3));
+        given(storeNameIndex.search("장", 10))
+                .willReturn(List.of("포장마차", "포장마차 2호점", "포장마차 3호점"));
         //when
         List<String> response = storeService.autoComplete("장");
         //then
@@ -150,6 +166,8 @@ class StoreServiceTest {
 
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
+        given(reviewSummaryService.getSummary(store))
+                .willReturn(new ReviewSummaryDto(2, List.of(7L, 3L), 1, null));
         //when
         StoreDto response = storeService.getStoreInfo("포장마차");
         //then
@@ -160,6 +178,35 @@ class StoreServiceTest {
         assertEquals(response.getAddress().getRoadname(), "번영로");
         assertEquals(response.getAddress().getDetailAddress(), "행복한 곳");
         assertEquals(response.getDescription(), "맛있는 가게");
+        assertEquals(response.getReviewSummary().getReviewCount(), 2);
+        assertEquals(response.getReviewSummary().getLatestReviewIds(), List.of(7L, 3L));
+    }
+
+    // 점포 정보 응답 버전은 점포 수정 시각과 리뷰 요약 revision으로 구성
+    @Test
+    void successGetStoreInfoVersion() {
+        //given
+        LocalDateTime storeUpdatedAt = LocalDateTime.of(2023, 12, 1, 12, 0);
+        LocalDateTime reviewUpdatedAt = LocalDateTime.of(2023, 12, 2, 12, 0);
+        // 이 인스턴스의 캐시에 남은 점포 수정 시각은 사용하지 않음
+        Store store = Store.builder().id(1L).storename("포장마차").build();
+        store.setUpdatedAt(storeUpdatedAt.minusDays(1));
+        StoreRepository.InfoVersion infoVersion = mock(StoreRepository.InfoVersion.class);
+
+        given(storeRepository.findByStorename(anyString()))
+                .willReturn(Optional.of(store));
+        given(storeRepository.findInfoVersionById(1L))
+                .willReturn(Optional.of(infoVersion));
+        given(infoVersion.getStoreUpdatedAt()).willReturn(storeUpdatedAt);
+        given(infoVersion.getReviewRevision()).willReturn(5L);
+        given(infoVersion.getReviewUpdatedAt()).willReturn(reviewUpdatedAt);
+        //when
+        ContentVersion version = storeService.getStoreInfoVersion("포장마차");
+        //then
+        assertEquals(version.getEtag(), "store-1-"
+                + ContentVersion.toEpochMilli(storeUpdatedAt) + "-5");
+        assertEquals(version.getLastModified(), ContentVersion.toEpochMilli(reviewUpdatedAt));
+        verify(reviewSummaryService, never()).getSummary(any());
     }
 
     // 점포 조회 시 찾으려는 점포 없으면 예외 발생 테스트
@@ -188,7 +235,7 @@ class StoreServiceTest {
                 .willReturn(Optional.of(store));
         given(storeRepository.findByStorename("포차"))
                 .willReturn(Optional.empty());
-        given(tokenProvider.getUid(anyString())).willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(storeRepository.save(any(Store.class)))
                 .willReturn(store);
         //when
@@ -201,7 +248,7 @@ class StoreServiceTest {
                 .detailAddress("행복한 곳")
                 .description("맛있는 가게")
                 .build();
-        StoreDto storeDto = storeService.updateStoreInfo("aaa", "aaa", request);
+        StoreDto storeDto = storeService.updateStoreInfo(principal, "aaa", request);
 
         //then
         assertEquals(storeDto.getStorename(), "포차");
@@ -217,6 +264,7 @@ class StoreServiceTest {
     @Test
     void updateStoreInfo_NotFoundStore() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.empty());
         //when
@@ -231,7 +279,7 @@ class StoreServiceTest {
                 .build();
 
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.updateStoreInfo("abc", "abc", request));
+                () -> storeService.updateStoreInfo(principal, "abc", request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_STORE);
     }
@@ -247,7 +295,7 @@ class StoreServiceTest {
 
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString())).willReturn("jjj");
+        JwtPrincipal principal = new JwtPrincipal("jjj", List.of("ROLE_PARTNER"));
         //when
         StoreRegisterDto.Request request = StoreRegisterDto.Request.builder()
                 .storename("포차")
@@ -260,7 +308,7 @@ class StoreServiceTest {
                 .build();
 
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.updateStoreInfo("abc", "abc", request));
+                () -> storeService.updateStoreInfo(principal, "abc", request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_DENIED);
     }
@@ -278,7 +326,7 @@ class StoreServiceTest {
                 .willReturn(Optional.of(store));
         given(storeRepository.findByStorename("포차"))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString())).willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
 
         //when
         StoreRegisterDto.Request request = StoreRegisterDto.Request.builder()
@@ -292,7 +340,7 @@ class StoreServiceTest {
                 .build();
 
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.updateStoreInfo("abc", "포장마차", request));
+                () -> storeService.updateStoreInfo(principal, "포장마차", request));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ALREADY_REGISTERED_STORENAME);
     }
@@ -308,10 +356,10 @@ class StoreServiceTest {
 
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString())).willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
 
         //when
-        StoreRegisterDto.Response response = storeService.deleteStore("abc", "포장마차");
+        StoreRegisterDto.Response response = storeService.deleteStore(principal, "포장마차");
 
         //then
         assertTrue(response.isSuccess());
@@ -323,11 +371,12 @@ class StoreServiceTest {
     @Test
     void deleteStore_NotFoundStore() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.empty());
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.deleteStore("abc", "포장마차"));
+                () -> storeService.deleteStore(principal, "포장마차"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_STORE);
     }
@@ -343,10 +392,10 @@ class StoreServiceTest {
 
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString())).willReturn("jjj");
+        JwtPrincipal principal = new JwtPrincipal("jjj", List.of("ROLE_PARTNER"));
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.deleteStore("abc", "abc"));
+                () -> storeService.deleteStore(principal, "abc"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_DENIED);
     }
@@ -365,14 +414,12 @@ class StoreServiceTest {
             stores.add(store);
         }
 
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
         Mockito.when(partnerRepository.getByUid(anyString()))
                 .thenReturn(partner);
         Mockito.when(partner.getStores()).thenReturn(stores);
         //when
-        String token = "abc";
-        Page<StoreDto> page = storeService.getMyStores(token, PageRequest.of(0, 5));
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
+        Page<StoreDto> page = storeService.getMyStores(principal, PageRequest.of(0, 5));
         //then
         assertEquals(page.getContent().get(0).getStorename(), "3호점");
         assertEquals(page.getContent().get(1).getStorename(), "2호점");
@@ -387,52 +434,57 @@ class StoreServiceTest {
         Partner partner = Partner.builder().uid("abc").build();
         LocalDateTime now = LocalDateTime.now();
         List<Reservation> reservations = new ArrayList<>();
-        int days = 1;
         for (int i = 1; i <= 4; i++) {
-            if (i == 3) {
-                days--;
-            }
             Reservation reservation = Reservation.builder()
                     .uid(Integer.toString(i))
-                    .dateTime(now.minusDays(days++))
+                    .dateTime(now.plusDays(i))
                     .underName("홍길동")
                     .phone("123")
                     .store(store)
                     .build();
-            reservation.setCreatedAt(now.minusMonths(1).plusDays(i));
             reservations.add(reservation);
         }
 
         Mockito.when(storeRepository.findByStorename(anyString()))
                 .thenReturn(Optional.of(store));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("abc");
-        Mockito.when(store.getReservations()).thenReturn(reservations);
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         Mockito.when(store.getPartner()).thenReturn(partner);
         Mockito.when(store.getStorename()).thenReturn("포차");
+        Mockito.when(reservationRepository.findViewsByStoreAndDateTimeBetween(
+                        any(Store.class), any(LocalDateTime.class),
+                        any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(ReservationViews.of(reservations),
+                        PageRequest.of(0, 5), 4));
         //when
         Page<ReservationDto> page = storeService.getReservationsByStore(
-                "111", "포장마차", now.toLocalDate().minusMonths(1),
+                principal, "포장마차", now.toLocalDate().minusMonths(1),
                 now.toLocalDate().plusMonths(1),
                 PageRequest.of(0, 5));
         //then
-        assertEquals(page.getContent().get(0).getUid(), "4");
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(reservationRepository).findViewsByStoreAndDateTimeBetween(
+                any(Store.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), captor.capture());
+        assertEquals(captor.getValue(), PageRequest.of(0, 5));
+        assertEquals(page.getTotalElements(), 4);
+        assertEquals(page.getContent().get(0).getUid(), "1");
         assertEquals(page.getContent().get(1).getUid(), "2");
         assertEquals(page.getContent().get(2).getUid(), "3");
-        assertEquals(page.getContent().get(3).getUid(), "1");
+        assertEquals(page.getContent().get(3).getUid(), "4");
     }
 
     // 파트너 점포 별 예약 조회 시 해당 점포 없을 경우 예외 처리
     @Test
     void getReservationsByStore_NotFoundStore() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         LocalDateTime now = LocalDateTime.now();
         Mockito.when(storeRepository.findByStorename(anyString()))
                 .thenReturn(Optional.empty());
         //when
         CustomException customException = assertThrows(CustomException.class,
                 () -> storeService.getReservationsByStore(
-                        "111", "포장마차", now.toLocalDate().minusMonths(1),
+                        principal, "포장마차", now.toLocalDate().minusMonths(1),
                         now.toLocalDate().plusMonths(1),
                         PageRequest.of(0, 5)));
         //then
@@ -449,12 +501,11 @@ class StoreServiceTest {
 
         Mockito.when(storeRepository.findByStorename(anyString()))
                 .thenReturn(Optional.of(store));
-        Mockito.when(tokenProvider.getUid(anyString()))
-                .thenReturn("123");
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
         //when
         CustomException customException = assertThrows(CustomException.class,
                 () -> storeService.getReservationsByStore(
-                        "111", "포장마차", now.toLocalDate().minusMonths(1),
+                        principal, "포장마차", now.toLocalDate().minusMonths(1),
                         now.toLocalDate().plusMonths(1),
                         PageRequest.of(0, 5)));
         //then
@@ -471,29 +522,29 @@ class StoreServiceTest {
                 .storename("포차")
                 .partner(partner).build();
 
-        List<Reservation> reservations = new ArrayList<>();
-        for (int i = 1; i <= 3; i++) {
+        // 오늘 확정 예약 색인에서 예약 일시 오름차순으로 정렬된 결과
+        List<ReservationDto> reservations = new ArrayList<>();
+        for (int i = 3; i >= 1; i--) {
             Reservation reservation = Reservation.builder()
                     .uid(Integer.toString(i))
-                    .dateTime(now.minusDays(i))
+                    .dateTime(now.minusHours(i))
                     .underName("홍길동")
                     .phone("123")
                     .store(store)
                     .build();
-            reservations.add(reservation);
+            reservations.add(ReservationDto.from(reservation));
         }
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("123");
-        given(reservationRepository.findAllByUnderNameAndPhoneAndStoreAndStatus(
-                "홍길동", "123", store, ReservationStatus.CONFIRM))
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
+        given(kioskArrivalBoard.find(store, "홍길동", "123"))
                 .willReturn(reservations);
         //when
         Page<ReservationDto> page = storeService.searchReservation(
-                "abc", "포차", "홍길동",
+                principal, "포차", "홍길동",
                 "123", PageRequest.of(0, 5));
         //then
+        assertEquals(page.getTotalElements(), 3);
         assertEquals(page.getContent().get(0).getUid(), "3");
         assertEquals(page.getContent().get(1).getUid(), "2");
         assertEquals(page.getContent().get(2).getUid(), "1");
@@ -503,12 +554,13 @@ class StoreServiceTest {
     @Test
     void searchReservation_NotFoundStore() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.empty());
         //when
         CustomException customException = assertThrows(CustomException.class,
                 () -> storeService.searchReservation(
-                "abc", "포차", "홍길동",
+                principal, "포차", "홍길동",
                 "123", PageRequest.of(0, 5)));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_STORE);
@@ -523,12 +575,11 @@ class StoreServiceTest {
 
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         //when
         CustomException customException = assertThrows(CustomException.class,
                 () -> storeService.searchReservation(
-                        "abc", "포차", "홍길동",
+                        principal, "포차", "홍길동",
                         "123", PageRequest.of(0, 5)));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_DENIED);
@@ -543,19 +594,15 @@ class StoreServiceTest {
                 .storename("포차")
                 .partner(partner).build();
 
-        List<Reservation> reservations = new ArrayList<>();
-
         given(storeRepository.findByStorename(anyString()))
                 .willReturn(Optional.of(store));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("123");
-        given(reservationRepository.findAllByUnderNameAndPhoneAndStoreAndStatus(
-                "홍길동", "123", store, ReservationStatus.CONFIRM))
-                .willReturn(reservations);
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
+        given(kioskArrivalBoard.find(store, "홍길동", "123"))
+                .willReturn(new ArrayList<>());
         //when
         CustomException customException = assertThrows(CustomException.class,
                 () -> storeService.searchReservation(
-                        "abc", "포차", "홍길동",
+                        principal, "포차", "홍길동",
                         "123", PageRequest.of(0, 5)));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_RESERVATION);
@@ -574,31 +621,33 @@ class StoreServiceTest {
                 .dateTime(LocalDateTime.now().plusMinutes(5))
                 .underName("홍길동")
                 .phone("123")
+                .status(ReservationStatus.CONFIRM)
                 .store(store)
                 .build();
 
         given(reservationRepository.findByUid(anyString()))
                 .willReturn(Optional.of(reservation));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("123");
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
         Mockito.when(reservationRepository.save(any(Reservation.class)))
                 .then(returnsFirstArg());
         //when
         CommonResponse commonResponse = storeService.arrivalConfirm(
-                "123", "123");
+                principal, "123");
         //then
         assertEquals(commonResponse, CommonResponse.SUCCESS);
+        verify(reservationFeedService).publish(reservation, ReservationEventType.ARRIVED);
     }
 
     // 파트너 키오스크에서 예약 도착 확인 시 해당 예약 건 없을 때 예외 처리
     @Test
     void arrivalConfirm_NotFoundReservation() {
         //given
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         given(reservationRepository.findByUid(anyString()))
                 .willReturn(Optional.empty());
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.arrivalConfirm("123", "123"));
+                () -> storeService.arrivalConfirm(principal, "123"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.NOT_FOUND_RESERVATION);
     }
@@ -616,16 +665,16 @@ class StoreServiceTest {
                 .dateTime(LocalDateTime.now().plusMinutes(5))
                 .underName("홍길동")
                 .phone("123")
+                .status(ReservationStatus.CONFIRM)
                 .store(store)
                 .build();
 
         given(reservationRepository.findByUid(anyString()))
                 .willReturn(Optional.of(reservation));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("abc");
+        JwtPrincipal principal = new JwtPrincipal("abc", List.of("ROLE_PARTNER"));
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.arrivalConfirm("123", "123"));
+                () -> storeService.arrivalConfirm(principal, "123"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ACCESS_DENIED);
     }
@@ -643,17 +692,17 @@ class StoreServiceTest {
                 .dateTime(LocalDateTime.now().plusMinutes(15))
                 .underName("홍길동")
                 .phone("123")
+                .status(ReservationStatus.CONFIRM)
                 .store(store)
                 .build();
 
         given(reservationRepository.findByUid(anyString()))
                 .willReturn(Optional.of(reservation));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("123");
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.arrivalConfirm("123", "123"));
+                () -> storeService.arrivalConfirm(principal, "123"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.ENTRANCE_NOT_ON_TIME);
     }
@@ -671,20 +720,47 @@ class StoreServiceTest {
                 .dateTime(LocalDateTime.now().minusMinutes(15))
                 .underName("홍길동")
                 .phone("123")
+                .status(ReservationStatus.CONFIRM)
                 .store(store)
                 .build();
 
         given(reservationRepository.findByUid(anyString()))
                 .willReturn(Optional.of(reservation));
-        given(tokenProvider.getUid(anyString()))
-                .willReturn("123");
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
 
         //when
         CustomException customException = assertThrows(CustomException.class,
-                () -> storeService.arrivalConfirm("123", "123"));
+                () -> storeService.arrivalConfirm(principal, "123"));
         //then
         assertEquals(customException.getErrorCode(), ErrorCode.TIME_OVER);
     }
-}
 
+    // 파트너 키오스크에서 예약 도착 확인 시 확정 상태가 아닌 예약(취소, 노쇼 등)은 예외 처리
+    @Test
+    void arrivalConfirm_NotConfirmed() {
+        //given
+        Partner partner = Partner.builder().uid("123").build();
+        Store store = Store.builder()
+                .storename("포차")
+                .partner(partner).build();
+        Reservation reservation = Reservation.builder()
+                .uid("1")
+                .dateTime(LocalDateTime.now().plusMinutes(5))
+                .underName("홍길동")
+                .phone("123")
+                .status(ReservationStatus.CANCEL)
+                .store(store)
+                .build();
+
+        given(reservationRepository.findByUid(anyString()))
+                .willReturn(Optional.of(reservation));
+        JwtPrincipal principal = new JwtPrincipal("123", List.of("ROLE_PARTNER"));
 
+        //when
+        CustomException customException = assertThrows(CustomException.class,
+                () -> storeService.arrivalConfirm(principal, "123"));
+        //then
+        assertEquals(customException.getErrorCode(), ErrorCode.RESERVATION_NOT_CONFIRMED);
+        verify(reservationRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,39 @@
+package com.zerobase.mytable.testutil;
+
+import com.zerobase.mytable.metrics.RequestMetrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 테스트에서 Hibernate가 실행한 SQL 수 검증(QueryCountInspector 집계 사용)
+// ex) assertStatementsAtMost(3, () -> storeService.getStoreInfo("포장마차"));
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    // action 실행 중 실행된 SQL 수
+    public static int countStatements(Runnable action) {
+        return run(action).getStatements();
+    }
+
+    // action 실행 중 실행된 SQL 수가 max 이하인지 검증(실패 시 실행된 SQL 출력)
+    public static void assertStatementsAtMost(int max, Runnable action) {
+        RequestMetrics metrics = run(action);
+
+        assertTrue(metrics.getStatements() <= max, () ->
+                "expected at most " + max + " statements but was "
+                        + metrics.getStatements() + System.lineSeparator()
+                        + String.join(System.lineSeparator(),
+                        metrics.getCapturedStatements()));
+    }
+
+    private static RequestMetrics run(Runnable action) {
+        RequestMetrics metrics = RequestMetrics.begin(true);
+        try {
+            action.run();
+        } finally {
+            RequestMetrics.end();
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,44 @@
+package com.zerobase.mytable.testutil;
+
+import com.zerobase.mytable.domain.Reservation;
+import com.zerobase.mytable.repository.ReservationRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 테스트용 ReservationView 생성(Reservation 엔티티 값으로 projection 구성)
+public final class ReservationViews {
+
+    private static final SpelAwareProxyProjectionFactory FACTORY =
+            new SpelAwareProxyProjectionFactory();
+
+    private ReservationViews() {
+    }
+
+    public static ReservationRepository.ReservationView of(Reservation reservation) {
+        // specialInstruction 등 null 값이 있을 수 있어 HashMap 사용
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", reservation.getId());
+        values.put("uid", reservation.getUid());
+        values.put("dateTime", reservation.getDateTime());
+        values.put("underName", reservation.getUnderName());
+        values.put("phone", reservation.getPhone());
+        values.put("specialInstruction", reservation.getSpecialInstruction());
+        values.put("storeId", reservation.getStore() == null
+                ? null : reservation.getStore().getId());
+        values.put("storename", reservation.getStore() == null
+                ? null : reservation.getStore().getStorename());
+        values.put("status", reservation.getStatus());
+
+        return FACTORY.createProjection(ReservationRepository.ReservationView.class, values);
+    }
+
+    public static List<ReservationRepository.ReservationView> of(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(ReservationViews::of)
+                .collect(Collectors.toList());
+    }
+}